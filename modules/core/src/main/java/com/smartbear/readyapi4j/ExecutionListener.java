@@ -1,6 +1,7 @@
 package com.smartbear.readyapi4j;
 
 import com.smartbear.readyapi4j.execution.Execution;
+import com.smartbear.readyapi4j.result.TestStepResult;
 
 /**
  * Listener for events related to test execution
@@ -30,4 +31,15 @@ public interface ExecutionListener {
      */
 
     default void executionFinished(Execution execution){}
+
+    /**
+     * Called every time a test step of a recipe has finished, before the execution itself has finished. Local
+     * executions call this as soon as the step has run; remote executions call it when a status poll reports the
+     * step. Cancelling the execution from here aborts the remaining steps.
+     *
+     * @param execution the execution that the step is part of
+     * @param testStepResult the result of the finished test step
+     */
+
+    default void testStepFinished(Execution execution, TestStepResult testStepResult){}
 }
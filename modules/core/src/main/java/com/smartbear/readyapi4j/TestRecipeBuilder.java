@@ -23,6 +23,7 @@ import com.smartbear.readyapi.client.model.TestStep;
 import com.smartbear.readyapi.client.model.UKPostCodeDataGenerator;
 import com.smartbear.readyapi.client.model.USZIPCodeDataGenerator;
 import com.smartbear.readyapi.client.model.ValuesFromSetDataGenerator;
+import com.smartbear.readyapi4j.extractor.CompiledExtractor;
 import com.smartbear.readyapi4j.extractor.Extractor;
 import com.smartbear.readyapi4j.extractor.ExtractorData;
 import com.smartbear.readyapi4j.properties.PropertyBuilder;
@@ -54,6 +55,7 @@ public class TestRecipeBuilder {
     private List<PropertyBuilder> propertyBuilders = new LinkedList<>();
     private final TestCase testCase;
     private ExtractorData extractorData = new ExtractorData();
+    private boolean clientSideExtraction;
 
     public TestRecipeBuilder() {
         testCase = new TestCase();
@@ -140,6 +142,21 @@ public class TestRecipeBuilder {
         return this;
     }
 
+    /**
+     * Evaluates extractors on the response of their test step in the client after the recipe has been executed,
+     * instead of adding a property transfer test step and a property per extractor to the recipe. Extractors that
+     * read other properties than the response, use JSONPath expressions with more than child names and array
+     * indexes, or XPath expressions on the response converted to XML, are still evaluated by a property transfer.
+     * <p>
+     * Extractors are run on the thread that finishes the execution. Complete response bodies must be captured for
+     * their test steps, otherwise the execution fails with a RecipeExecutionException.</p>
+     */
+
+    public TestRecipeBuilder withClientSideExtraction() {
+        this.clientSideExtraction = true;
+        return this;
+    }
+
     /**
      * @param propertyBuilders the PropertyBuilders for properties to add to the created TestCase
      */
@@ -215,6 +232,19 @@ public class TestRecipeBuilder {
     }
 
     private TestStep handleExtractors(List<Extractor> extractors) {
+        if (clientSideExtraction) {
+            List<Extractor> serverSideExtractors = new LinkedList<>();
+            for (Extractor extractor : extractors) {
+                CompiledExtractor compiledExtractor = CompiledExtractor.compile(extractor);
+                if (compiledExtractor != null) {
+                    extractorData.addClientSideExtractor(compiledExtractor);
+                } else {
+                    serverSideExtractors.add(extractor);
+                }
+            }
+            extractors = serverSideExtractors;
+        }
+
         PropertyTransferTestStep propertyTransferTestStep = null;
         if (!extractors.isEmpty()) {
             // Add the unique execution key as property, match it in the result report
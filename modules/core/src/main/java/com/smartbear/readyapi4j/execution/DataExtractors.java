@@ -3,54 +3,190 @@ package com.smartbear.readyapi4j.execution;
 import com.smartbear.readyapi.client.model.ProjectResultReport;
 import com.smartbear.readyapi.client.model.TestCaseResultReport;
 import com.smartbear.readyapi.client.model.TestSuiteResultReport;
+import com.smartbear.readyapi4j.extractor.CompiledExtractor;
 import com.smartbear.readyapi4j.extractor.ExtractorData;
 import com.smartbear.readyapi4j.extractor.ExtractorOperator;
+import com.smartbear.readyapi4j.result.HarCapturePolicy;
+import com.smartbear.readyapi4j.result.RecipeExecutionResult;
+import com.smartbear.readyapi4j.result.TestStepResult;
+import com.smartbear.readyapi4j.support.FlightRecorderEvents;
 
-import java.util.Collection;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
  * Utility class to execute the data extractions after recipe execution.
  */
 public class DataExtractors {
+
     public static void runDataExtractors(ProjectResultReport executionStatus, List<ExtractorData> extractorDataList) {
-        List<String> extractorDataIdList = extractorDataList
-                .stream()
-                .map(ExtractorData::getExtractorDataId)
-                .collect(Collectors.toList());
-        Optional<TestCaseResultReport> resultReport = executionStatus
-                .getTestSuiteResultReports()
-                .stream()
-                .map(TestSuiteResultReport::getTestCaseResultReports)
-                .flatMap(Collection::stream)
-                .filter(testCaseResultReport ->
-                        extractorDataIdList.contains(testCaseResultReport.getProperties().get(ExtractorData.EXTRACTOR_DATA_KEY)))
-                .findAny();
-
-        resultReport.ifPresent(testCaseResultReport -> {
-            Map<String, String> properties = testCaseResultReport.getProperties();
-            runExtractorFunctions(extractorDataList, properties);
-
-            // After run, remove all unnecessary properties
-            properties.entrySet().removeIf(entry -> entry.getKey().contains(properties.get(ExtractorData.EXTRACTOR_DATA_KEY)));
-            properties.remove(ExtractorData.EXTRACTOR_DATA_KEY);
-        });
+        Map<String, ExtractorData> extractorDataById = new HashMap<>();
+        for (ExtractorData extractorData : extractorDataList) {
+            extractorDataById.put(extractorData.getExtractorDataId(), extractorData);
+        }
+        runDataExtractors(executionStatus, extractorDataById);
+    }
+
+    /**
+     * Runs the extractors of a single recipe on the report of its execution
+     *
+     * @param executionStatus the final report of the execution
+     * @param extractorData   the extractors of the executed recipe
+     */
+    public static void runDataExtractors(ProjectResultReport executionStatus, ExtractorData extractorData) {
+        runDataExtractors(executionStatus, Collections.singletonMap(extractorData.getExtractorDataId(), extractorData));
+    }
+
+    /**
+     * Runs the client side extractors of a recipe on the responses of their test steps. The extractors of each test
+     * step run on the specified executor, concurrently with those of other test steps, while the extractors of one test
+     * step run one after the other; the response of each test step is read once, from its last result. Waits until
+     * the extractors of all test steps have run.
+     *
+     * @param executionResult the result of the finished execution
+     * @param extractorData   the extractors of the executed recipe
+     * @param capturePolicy   the HAR capture policy the responses were captured with
+     * @param executor        the executor to run the extractors on, or null for {@link #defaultExtractionExecutor()}
+     * @throws RecipeExecutionException if the response of a test step was not captured, was truncated or could not be
+     *                                  parsed
+     */
+    public static void runClientSideExtractors(RecipeExecutionResult executionResult, ExtractorData extractorData,
+                                               HarCapturePolicy capturePolicy, Executor executor) {
+        if (!extractorData.hasClientSideExtractors()) {
+            return;
+        }
+        try (FlightRecorderEvents.Span ignored = FlightRecorderEvents.begin(FlightRecorderEvents.Phase.DATA_EXTRACTION,
+                null, executionResult.getExecutionId())) {
+            Map<String, List<CompiledExtractor>> extractorsByTestStep = extractorData.getClientSideExtractors()
+                    .stream()
+                    .collect(Collectors.groupingBy(CompiledExtractor::getTestStepName, LinkedHashMap::new,
+                            Collectors.toList()));
+            Executor extractionExecutor = executor == null ? defaultExtractionExecutor() : executor;
+            List<CompletableFuture<Void>> testStepExtractions = new ArrayList<>(extractorsByTestStep.size());
+            Map.Entry<String, List<CompiledExtractor>> lastTestStep = null;
+            for (Map.Entry<String, List<CompiledExtractor>> entry : extractorsByTestStep.entrySet()) {
+                if (lastTestStep != null) {
+                    Map.Entry<String, List<CompiledExtractor>> testStep = lastTestStep;
+                    testStepExtractions.add(CompletableFuture.runAsync(() -> runClientSideExtractors(executionResult,
+                            testStep.getKey(), testStep.getValue(), capturePolicy), extractionExecutor));
+                }
+                lastTestStep = entry;
+            }
+
+            // the calling thread takes the last test step instead of only waiting for the others
+            RecipeExecutionException failure = null;
+            try {
+                runClientSideExtractors(executionResult, lastTestStep.getKey(), lastTestStep.getValue(),
+                        capturePolicy);
+            } catch (RuntimeException e) {
+                failure = toExtractionFailure(e);
+            }
+            for (CompletableFuture<Void> testStepExtraction : testStepExtractions) {
+                try {
+                    testStepExtraction.join();
+                } catch (CompletionException e) {
+                    if (failure == null) {
+                        failure = toExtractionFailure(e.getCause());
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * @return the executor that client side extractors run on when no other executor is configured, a pool of daemon
+     * threads with one thread per available processor
+     */
+    public static Executor defaultExtractionExecutor() {
+        return DefaultExtractionExecutorHolder.EXECUTOR;
     }
 
+    private static RecipeExecutionException toExtractionFailure(Throwable e) {
+        return e instanceof RecipeExecutionException ? (RecipeExecutionException) e :
+                new RecipeExecutionException("Failed to run client side extractors", e);
+    }
+
+    private static void runClientSideExtractors(RecipeExecutionResult executionResult, String testStepName,
+                                                List<CompiledExtractor> extractors, HarCapturePolicy capturePolicy) {
+        Optional<TestStepResult> testStepResult = executionResult.getLastTestStepResult(testStepName);
+        String responseContent = testStepResult.isPresent() ? testStepResult.get().getResponseContent() : null;
+        if (responseContent == null) {
+            throw new RecipeExecutionException("No response content captured for test step " + testStepName +
+                    ", which has client side extractors; check the HAR capture policy and message exchange retention");
+        }
+        if (capturePolicy.isTruncated(responseContent)) {
+            throw new RecipeExecutionException("Response content of test step " + testStepName + " was truncated" +
+                    ", which has client side extractors; raise the maximum body size of the HAR capture policy");
+        }
+        for (CompiledExtractor extractor : extractors) {
+            try {
+                extractor.extract(responseContent);
+            } catch (IOException e) {
+                throw new RecipeExecutionException("Failed to extract value from response of test step " +
+                        testStepName, e);
+            }
+        }
+    }
+
+    private static void runDataExtractors(ProjectResultReport executionStatus, Map<String, ExtractorData> extractorDataById) {
+        if (extractorDataById.isEmpty()) {
+            return;
+        }
+        try (FlightRecorderEvents.Span ignored = FlightRecorderEvents.begin(FlightRecorderEvents.Phase.DATA_EXTRACTION,
+                null, executionStatus.getExecutionID())) {
+            extractData(executionStatus, extractorDataById);
+        }
+    }
+
+    private static void extractData(ProjectResultReport executionStatus, Map<String, ExtractorData> extractorDataById) {
+        for (TestSuiteResultReport testSuiteResultReport : executionStatus.getTestSuiteResultReports()) {
+            for (TestCaseResultReport testCaseResultReport : testSuiteResultReport.getTestCaseResultReports()) {
+                Map<String, String> properties = testCaseResultReport.getProperties();
+                String extractorDataId = properties == null ? null : properties.get(ExtractorData.EXTRACTOR_DATA_KEY);
+                ExtractorData extractorData = extractorDataId == null ? null : extractorDataById.get(extractorDataId);
+                if (extractorData != null) {
+                    runExtractorFunctions(extractorData, properties);
 
-    private static void runExtractorFunctions(List<ExtractorData> extractorDataList, Map<String, String> properties) {
-        Optional<ExtractorData> extractorData = extractorDataList
-                .stream()
-                .filter(ed -> ed.getExtractorDataId().equals(properties.get(ExtractorData.EXTRACTOR_DATA_KEY)))
-                .findAny();
-        extractorData.ifPresent(extractorData1 -> properties.forEach((key, value) -> {
-            ExtractorOperator operator = extractorData1.getExtractorOperator(key);
+                    // After run, remove all unnecessary properties
+                    properties.entrySet().removeIf(entry -> entry.getKey().contains(extractorDataId));
+                    properties.remove(ExtractorData.EXTRACTOR_DATA_KEY);
+                }
+            }
+        }
+    }
+
+    private static void runExtractorFunctions(ExtractorData extractorData, Map<String, String> properties) {
+        properties.forEach((key, value) -> {
+            ExtractorOperator operator = extractorData.getExtractorOperator(key);
             if (operator != null) {
                 operator.extractValue(value);
             }
-        }));
+        });
+    }
+
+    // created on first use, so applications that never extract on the client start no threads
+    private static class DefaultExtractionExecutorHolder {
+        private static final AtomicInteger threadCounter = new AtomicInteger();
+        private static final Executor EXECUTOR = Executors.newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors(), runnable -> {
+                    Thread thread = new Thread(runnable, "readyapi4j-extraction-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
     }
 }
@@ -0,0 +1,27 @@
+package com.smartbear.readyapi4j.execution;
+
+/**
+ * Thrown, and passed to {@link com.smartbear.readyapi4j.ExecutionListener#errorOccurred(Exception)}, when an execution
+ * that has been started fails without finishing, so listeners are not told about it through
+ * {@link com.smartbear.readyapi4j.ExecutionListener#executionFinished(Execution)}.
+ */
+public class ExecutionFailedException extends RecipeExecutionException {
+    private final transient Execution execution;
+
+    public ExecutionFailedException(String message, Execution execution) {
+        super(message);
+        this.execution = execution;
+    }
+
+    public ExecutionFailedException(String message, Execution execution, Throwable cause) {
+        super(message, cause);
+        this.execution = execution;
+    }
+
+    /**
+     * @return the execution that failed
+     */
+    public Execution getExecution() {
+        return execution;
+    }
+}
@@ -0,0 +1,74 @@
+package com.smartbear.readyapi4j.execution;
+
+import com.smartbear.readyapi4j.ExecutionListener;
+import com.smartbear.readyapi4j.TestRecipe;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implements {@link RecipeExecutor#submitRecipeAsync(TestRecipe)} for executors that do not override it: the recipe
+ * is submitted with {@link RecipeExecutor#submitRecipe(TestRecipe)} and a temporary execution listener completes the
+ * future when the execution finishes, so no thread waits for the execution.
+ */
+class ListeningSubmission implements ExecutionListener {
+    private final RecipeExecutor executor;
+    private final CompletableFuture<Execution> completion = new CompletableFuture<>();
+    // executions that finished before submitRecipe returned the id of the submitted execution
+    private final Map<String, Execution> finishedBeforeSubmission = new HashMap<>();
+    private String executionId;
+
+    private ListeningSubmission(RecipeExecutor executor) {
+        this.executor = executor;
+    }
+
+    static CompletableFuture<Execution> submit(RecipeExecutor executor, TestRecipe recipe) {
+        ListeningSubmission submission = new ListeningSubmission(executor);
+        executor.addExecutionListener(submission);
+        submission.completion.whenComplete((execution, throwable) -> executor.removeExecutionListener(submission));
+
+        Execution execution;
+        try {
+            execution = executor.submitRecipe(recipe);
+        } catch (RuntimeException e) {
+            submission.completion.completeExceptionally(e);
+            return submission.completion;
+        }
+        submission.submitted(execution);
+        return submission.completion;
+    }
+
+    private void submitted(Execution execution) {
+        Execution finishedExecution;
+        synchronized (this) {
+            executionId = execution.getId();
+            finishedExecution = finishedBeforeSubmission.get(executionId);
+            finishedBeforeSubmission.clear();
+        }
+        if (finishedExecution != null) {
+            completion.complete(finishedExecution);
+        }
+        completion.whenComplete((finished, throwable) -> {
+            if (throwable instanceof CancellationException) {
+                execution.cancelExecution();
+            }
+        });
+    }
+
+    @Override
+    public void executionFinished(Execution execution) {
+        String submittedExecutionId;
+        synchronized (this) {
+            if (executionId == null) {
+                finishedBeforeSubmission.put(execution.getId(), execution);
+                return;
+            }
+            submittedExecutionId = executionId;
+        }
+        if (submittedExecutionId.equals(execution.getId())) {
+            completion.complete(execution);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.smartbear.readyapi4j.execution;
+
+import com.smartbear.readyapi4j.TestRecipe;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Utility class to execute a batch of recipes with bounded parallelism using any RecipeExecutor.
+ */
+public class RecipeBatch {
+    private static final AtomicInteger batchCounter = new AtomicInteger();
+
+    private RecipeBatch() {
+    }
+
+    /**
+     * Executes the specified recipes synchronously on the specified executor, using at most
+     * <code>parallelism</code> threads. A recipe that fails to execute does not affect the others: its exception is
+     * collected in the result and the remaining recipes are still executed.
+     *
+     * @param executor    the executor to run the recipes with
+     * @param recipes     the recipes to execute
+     * @param parallelism the maximum number of recipes to execute concurrently
+     * @return the execution or failure of each recipe, in the same order as the recipes were provided
+     * @throws RecipeExecutionException if the calling thread is interrupted while waiting for the recipes
+     */
+    public static RecipeBatchResult execute(RecipeExecutor executor, Collection<TestRecipe> recipes, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, was " + parallelism);
+        }
+
+        List<TestRecipe> batch = new ArrayList<>(recipes);
+        List<Execution> executions = new ArrayList<>(batch.size());
+        List<Throwable> failures = new ArrayList<>(batch.size());
+        if (batch.isEmpty()) {
+            return new RecipeBatchResult(batch, executions, failures);
+        }
+
+        ExecutorService threadPool = Executors.newFixedThreadPool(Math.min(parallelism, batch.size()),
+                new BatchThreadFactory(batchCounter.incrementAndGet()));
+        try {
+            List<Future<Execution>> futures = new ArrayList<>(batch.size());
+            for (TestRecipe recipe : batch) {
+                futures.add(threadPool.submit(() -> executor.executeRecipe(recipe)));
+            }
+
+            for (Future<Execution> future : futures) {
+                try {
+                    executions.add(future.get());
+                    failures.add(null);
+                } catch (ExecutionException e) {
+                    executions.add(null);
+                    failures.add(e.getCause());
+                }
+            }
+            return new RecipeBatchResult(batch, executions, failures);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            threadPool.shutdownNow();
+            throw new RecipeExecutionException("Interrupted while executing Test recipes", e);
+        } finally {
+            threadPool.shutdown();
+        }
+    }
+
+    private static class BatchThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCounter = new AtomicInteger();
+        private final int batchNumber;
+
+        BatchThreadFactory(int batchNumber) {
+            this.batchNumber = batchNumber;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "readyapi4j-batch-" + batchNumber + "-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
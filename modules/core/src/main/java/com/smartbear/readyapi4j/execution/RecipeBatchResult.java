@@ -0,0 +1,80 @@
+package com.smartbear.readyapi4j.execution;
+
+import com.smartbear.readyapi4j.TestRecipe;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of a batch of recipes executed with {@link RecipeBatch}: for each recipe either its execution, or the
+ * exception that prevented it from being executed.
+ */
+public class RecipeBatchResult {
+    private final List<TestRecipe> recipes;
+    private final List<Execution> executions;
+    private final List<Throwable> failures;
+
+    RecipeBatchResult(List<TestRecipe> recipes, List<Execution> executions, List<Throwable> failures) {
+        this.recipes = recipes;
+        this.executions = executions;
+        this.failures = failures;
+    }
+
+    /**
+     * @return the number of recipes in the batch
+     */
+    public int size() {
+        return recipes.size();
+    }
+
+    /**
+     * @param index the position of the recipe in the batch
+     * @return the execution of the recipe, or null if it failed to execute
+     */
+    public Execution getExecution(int index) {
+        return executions.get(index);
+    }
+
+    /**
+     * @param index the position of the recipe in the batch
+     * @return the exception that prevented the recipe from being executed, or null if it was executed
+     */
+    public Throwable getFailure(int index) {
+        return failures.get(index);
+    }
+
+    /**
+     * @return the executions of all recipes that could be executed, in the same order as the recipes were provided
+     */
+    public List<Execution> getExecutions() {
+        List<Execution> executedRecipes = new ArrayList<>(executions.size());
+        for (Execution execution : executions) {
+            if (execution != null) {
+                executedRecipes.add(execution);
+            }
+        }
+        return executedRecipes;
+    }
+
+    /**
+     * @return the recipes that failed to execute, in the same order as they were provided
+     */
+    public List<TestRecipe> getFailedRecipes() {
+        List<TestRecipe> failedRecipes = new ArrayList<>();
+        for (int i = 0; i < recipes.size(); i++) {
+            if (failures.get(i) != null) {
+                failedRecipes.add(recipes.get(i));
+            }
+        }
+        return failedRecipes;
+    }
+
+    public boolean hasFailures() {
+        return failures.stream().anyMatch(failure -> failure != null);
+    }
+
+    public List<TestRecipe> getRecipes() {
+        return Collections.unmodifiableList(recipes);
+    }
+}
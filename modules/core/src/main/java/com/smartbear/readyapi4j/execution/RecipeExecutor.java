@@ -2,8 +2,11 @@ package com.smartbear.readyapi4j.execution;
 
 import com.smartbear.readyapi4j.ExecutionListener;
 import com.smartbear.readyapi4j.TestRecipe;
+import com.smartbear.readyapi4j.result.RecipeExecutionResult;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Defines a class that can execute recipes
@@ -19,6 +22,33 @@ public interface RecipeExecutor {
      */
     Execution submitRecipe(TestRecipe recipe);
 
+    /**
+     * Submit a Test recipe for asynchronous execution. The returned future is completed with the finished execution,
+     * or exceptionally if the recipe could not be submitted or its status could not be determined. Cancelling the
+     * future cancels the underlying execution.
+     * <p>
+     * The default implementation submits the recipe with {@link #submitRecipe(TestRecipe)} and completes the future
+     * when an execution listener is notified that the execution has finished, so no thread waits for the execution;
+     * the built-in executors override it to also complete the future exceptionally when their status checks fail.</p>
+     *
+     * @param recipe Test recipe to be executed.
+     * @return a future for the finished execution
+     */
+    default CompletableFuture<Execution> submitRecipeAsync(TestRecipe recipe) {
+        return ListeningSubmission.submit(this, recipe);
+    }
+
+    /**
+     * Submit a Test recipe for asynchronous execution and get a future for its result.
+     *
+     * @param recipe Test recipe to be executed.
+     * @return a future for the result of the finished execution
+     * @see #submitRecipeAsync(TestRecipe)
+     */
+    default CompletableFuture<RecipeExecutionResult> submitRecipeForResult(TestRecipe recipe) {
+        return submitRecipeAsync(recipe).thenApply(Execution::getExecutionResult);
+    }
+
     /**
      * Submit a Test recipe for synchronous execution.
      *
@@ -27,6 +57,20 @@ public interface RecipeExecutor {
      */
     Execution executeRecipe(TestRecipe recipe);
 
+    /**
+     * Executes the specified Test recipes synchronously, running at most <code>parallelism</code> recipes
+     * concurrently. Execution listeners are notified for each recipe just as for {@link #executeRecipe(TestRecipe)}.
+     *
+     * @param recipes     Test recipes to be executed.
+     * @param parallelism the maximum number of recipes to execute concurrently
+     * @return the execution or failure of each recipe, in the same order as the recipes were provided; recipes that
+     * fail to execute do not stop the others
+     * @throws RecipeExecutionException if the calling thread is interrupted while waiting for the recipes
+     */
+    default RecipeBatchResult executeRecipes(Collection<TestRecipe> recipes, int parallelism) {
+        return RecipeBatch.execute(this, recipes, parallelism);
+    }
+
     /**
      * @return List of all the execution stored on server
      */
@@ -0,0 +1,230 @@
+package com.smartbear.readyapi4j.extractor;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartbear.readyapi4j.teststeps.propertytransfer.PathLanguage;
+import org.apache.commons.lang3.StringUtils;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An extractor that is evaluated by the client against the response content of its test step, instead of by a
+ * property transfer added to the recipe. Paths are compiled once, when the recipe is built.
+ * <p>
+ * Supports the whole response, JSONPath expressions made of child names and array indexes, like
+ * <code>$.items[0]['name']</code>, and XPath expressions on the raw response, optionally prefixed with namespace
+ * declarations like <code>declare namespace ns='http://example.com';</code>. XPath expressions on ResponseAsXml are
+ * left to property transfers, since the client cannot reproduce how SoapUI converts other content to XML.</p>
+ */
+
+public class CompiledExtractor {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Pattern NAMESPACE_DECLARATION =
+            Pattern.compile("\\s*declare\\s+namespace\\s+([\\w.-]+)\\s*=\\s*(['\"])(.*?)\\2\\s*;");
+    private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER = ThreadLocal.withInitial(() -> {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            return factory.newDocumentBuilder();
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to create XML parser", e);
+        }
+    });
+
+    private final String testStepName;
+    private final ExtractorOperator operator;
+    private final JsonPointer jsonPointer;
+    private final XPathExpression xPathExpression;
+
+    private CompiledExtractor(String testStepName, ExtractorOperator operator, JsonPointer jsonPointer,
+                              XPathExpression xPathExpression) {
+        this.testStepName = testStepName;
+        this.operator = operator;
+        this.jsonPointer = jsonPointer;
+        this.xPathExpression = xPathExpression;
+    }
+
+    /**
+     * Compiles an extractor for client side evaluation
+     *
+     * @param extractor the extractor, with the test step it was added on as source
+     * @return the compiled extractor, or null if the extractor can only be evaluated by a property transfer, for example
+     * because it reads another property than the response or uses an unsupported JSONPath expression
+     */
+    public static CompiledExtractor compile(Extractor extractor) {
+        if (extractor.getSource() == null || !"Response".equals(extractor.getProperty())) {
+            return null;
+        }
+        if (StringUtils.isEmpty(extractor.getPath())) {
+            return new CompiledExtractor(extractor.getSource(), extractor.getOperator(), null, null);
+        }
+
+        if (extractor.getPathLanguage() == PathLanguage.JSONPath) {
+            JsonPointer jsonPointer = toJsonPointer(extractor.getPath());
+            return jsonPointer == null ? null :
+                    new CompiledExtractor(extractor.getSource(), extractor.getOperator(), jsonPointer, null);
+        }
+        if (extractor.getPathLanguage() == PathLanguage.XPath) {
+            XPathExpression expression = compileXPath(extractor.getPath());
+            return expression == null ? null :
+                    new CompiledExtractor(extractor.getSource(), extractor.getOperator(), null, expression);
+        }
+        return null;
+    }
+
+    public String getTestStepName() {
+        return testStepName;
+    }
+
+    /**
+     * Extracts the value from the response content and passes it to the operator of the extractor
+     *
+     * @param responseContent the response content of the test step
+     * @throws IOException if the content could not be parsed
+     */
+    public void extract(String responseContent) throws IOException {
+        operator.extractValue(evaluate(responseContent));
+    }
+
+    /**
+     * @param responseContent the response content of the test step
+     * @return the extracted value, null if the path does not match anything
+     * @throws IOException if the content could not be parsed
+     */
+    String evaluate(String responseContent) throws IOException {
+        if (responseContent == null || (jsonPointer == null && xPathExpression == null)) {
+            return responseContent;
+        }
+        if (jsonPointer != null) {
+            JsonNode node = OBJECT_MAPPER.readTree(responseContent).at(jsonPointer);
+            if (node.isMissingNode() || node.isNull()) {
+                return null;
+            }
+            return node.isValueNode() ? node.asText() : node.toString();
+        }
+        try {
+            Document document = DOCUMENT_BUILDER.get().parse(new InputSource(new StringReader(responseContent)));
+            // compiled expressions are not thread-safe
+            synchronized (xPathExpression) {
+                return (String) xPathExpression.evaluate(document, XPathConstants.STRING);
+            }
+        } catch (XPathExpressionException | SAXException e) {
+            throw new IOException("Failed to evaluate XPath expression on response content", e);
+        }
+    }
+
+    /**
+     * @return the compiled expression, or null if it is not valid or declares a default namespace, which JAXP does
+     * not support
+     */
+    static XPathExpression compileXPath(String path) {
+        Map<String, String> namespaces = new HashMap<>();
+        Matcher declaration = NAMESPACE_DECLARATION.matcher(path);
+        int pathStart = 0;
+        while (declaration.find(pathStart) && declaration.start() == pathStart) {
+            namespaces.put(declaration.group(1), declaration.group(3));
+            pathStart = declaration.end();
+        }
+        String expression = path.substring(pathStart).trim();
+        if (expression.startsWith("declare ")) {
+            return null;
+        }
+        try {
+            XPath xPath = XPathFactory.newInstance().newXPath();
+            xPath.setNamespaceContext(new DeclaredNamespaces(namespaces));
+            return xPath.compile(expression);
+        } catch (XPathExpressionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the equivalent JSON pointer, or null if the path uses more than child names and array indexes
+     */
+    static JsonPointer toJsonPointer(String jsonPath) {
+        if (!jsonPath.startsWith("$")) {
+            return null;
+        }
+        StringBuilder pointer = new StringBuilder();
+        int i = 1;
+        while (i < jsonPath.length()) {
+            char c = jsonPath.charAt(i);
+            String segment;
+            if (c == '.') {
+                int end = i + 1;
+                while (end < jsonPath.length() && jsonPath.charAt(end) != '.' && jsonPath.charAt(end) != '[') {
+                    end++;
+                }
+                segment = jsonPath.substring(i + 1, end);
+                if (segment.isEmpty() || segment.equals("*")) {
+                    return null;
+                }
+                i = end;
+            } else if (c == '[') {
+                int end = jsonPath.indexOf(']', i);
+                if (end < 0) {
+                    return null;
+                }
+                segment = jsonPath.substring(i + 1, end).trim();
+                if (segment.length() >= 2 && (segment.charAt(0) == '\'' || segment.charAt(0) == '"') &&
+                        segment.charAt(segment.length() - 1) == segment.charAt(0)) {
+                    segment = segment.substring(1, segment.length() - 1);
+                } else if (!StringUtils.isNumeric(segment)) {
+                    return null;
+                }
+                i = end + 1;
+            } else {
+                return null;
+            }
+            pointer.append('/').append(segment.replace("~", "~0").replace("/", "~1"));
+        }
+        return JsonPointer.compile(pointer.toString());
+    }
+
+    private static class DeclaredNamespaces implements NamespaceContext {
+        private final Map<String, String> namespaces;
+
+        DeclaredNamespaces(Map<String, String> namespaces) {
+            this.namespaces = namespaces;
+        }
+
+        @Override
+        public String getNamespaceURI(String prefix) {
+            return namespaces.getOrDefault(prefix, XMLConstants.NULL_NS_URI);
+        }
+
+        @Override
+        public String getPrefix(String namespaceURI) {
+            Iterator<String> prefixes = getPrefixes(namespaceURI);
+            return prefixes.hasNext() ? prefixes.next() : null;
+        }
+
+        @Override
+        public Iterator<String> getPrefixes(String namespaceURI) {
+            return namespaces.entrySet().stream()
+                    .filter(entry -> entry.getValue().equals(namespaceURI))
+                    .map(Map.Entry::getKey)
+                    .iterator();
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.smartbear.readyapi4j.extractor;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -24,6 +27,11 @@ public class ExtractorData {
      */
     private Map<String, ExtractorOperator> extractorOperatorMap;
 
+    /**
+     * Extractors that are evaluated by the client on the response of their test step after the run
+     */
+    private final List<CompiledExtractor> clientSideExtractors = new ArrayList<>();
+
     public ExtractorData() {
         extractorOperatorMap = new HashMap<>();
         extractorDataId = UUID.randomUUID().toString();
@@ -55,4 +63,16 @@ public class ExtractorData {
     public ExtractorOperator getExtractorOperator(String extractorId) {
         return extractorOperatorMap.get(extractorId);
     }
+
+    public void addClientSideExtractor(CompiledExtractor extractor) {
+        clientSideExtractors.add(extractor);
+    }
+
+    public List<CompiledExtractor> getClientSideExtractors() {
+        return Collections.unmodifiableList(clientSideExtractors);
+    }
+
+    public boolean hasClientSideExtractors() {
+        return !clientSideExtractors.isEmpty();
+    }
 }
\ No newline at end of file
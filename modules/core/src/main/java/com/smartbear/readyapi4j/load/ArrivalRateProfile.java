@@ -0,0 +1,55 @@
+package com.smartbear.readyapi4j.load;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Describes how many recipe iterations per second an {@link OpenLoadRecipeExecutor} starts over time
+ */
+
+@FunctionalInterface
+public interface ArrivalRateProfile {
+
+    /**
+     * @param elapsedMillis the time since the load test started, including the warm-up
+     * @return the number of iterations to start per second at that time
+     */
+    double getRate(long elapsedMillis);
+
+    /**
+     * @param ratePerSecond the number of iterations to start per second
+     * @return a profile with a fixed arrival rate
+     */
+    static ArrivalRateProfile constant(double ratePerSecond) {
+        return elapsedMillis -> ratePerSecond;
+    }
+
+    /**
+     * @param startRate the number of iterations per second at the start of the load test
+     * @param endRate   the number of iterations per second at the end of the ramp, kept after it
+     * @param duration  the duration of the ramp
+     * @param unit      the time unit of the duration
+     * @return a profile that changes the arrival rate linearly from the start rate to the end rate
+     */
+    static ArrivalRateProfile ramp(double startRate, double endRate, long duration, TimeUnit unit) {
+        long durationMillis = unit.toMillis(duration);
+        return elapsedMillis -> elapsedMillis >= durationMillis ? endRate :
+                startRate + (endRate - startRate) * elapsedMillis / durationMillis;
+    }
+
+    /**
+     * @param startRate    the number of iterations per second of the first step
+     * @param increment    the number of iterations per second added by every further step
+     * @param stepDuration the duration of each step
+     * @param unit         the time unit of the step duration
+     * @return a profile that increases the arrival rate in steps
+     * @throws IllegalArgumentException if the step duration is shorter than 1 millisecond
+     */
+    static ArrivalRateProfile steps(double startRate, double increment, long stepDuration, TimeUnit unit) {
+        long stepMillis = unit.toMillis(stepDuration);
+        if (stepMillis < 1) {
+            throw new IllegalArgumentException("Steps must last at least 1 millisecond, was " + stepDuration + " "
+                    + unit);
+        }
+        return elapsedMillis -> startRate + increment * (elapsedMillis / stepMillis);
+    }
+}
@@ -0,0 +1,63 @@
+package com.smartbear.readyapi4j.load;
+
+/**
+ * The outcome of running a load test at one level of concurrency during a {@link CapacitySearch}
+ */
+
+public class CapacityPoint {
+    private final int concurrency;
+    private final LoadTestResult result;
+    private final String slaViolation;
+
+    CapacityPoint(int concurrency, LoadTestResult result, String slaViolation) {
+        this.concurrency = concurrency;
+        this.result = result;
+        this.slaViolation = slaViolation;
+    }
+
+    /**
+     * @return the number of virtual users
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * @return the number of recipe executions per second
+     */
+    public double getThroughput() {
+        return result.getRecipeStatistics().getThroughput();
+    }
+
+    /**
+     * @return the p99 latency of complete recipe executions, in milliseconds
+     */
+    public long getP99() {
+        return result.getRecipeStatistics().getP99();
+    }
+
+    public double getFailureRatio() {
+        return result.getRecipeStatistics().getFailureRatio();
+    }
+
+    public boolean isSlaMet() {
+        return slaViolation == null;
+    }
+
+    /**
+     * @return why the SLA was not met, or null if it was
+     */
+    public String getSlaViolation() {
+        return slaViolation;
+    }
+
+    public LoadTestResult getResult() {
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("concurrency=%d, throughput=%.1f/s, p99=%dms, failureRatio=%.3f%s", concurrency,
+                getThroughput(), getP99(), getFailureRatio(), isSlaMet() ? "" : " (" + slaViolation + ")");
+    }
+}
@@ -0,0 +1,190 @@
+package com.smartbear.readyapi4j.load;
+
+import com.smartbear.readyapi4j.TestRecipe;
+import com.smartbear.readyapi4j.execution.RecipeExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds the highest throughput a recipe sustains within a {@link LatencySla} by running closed-model load tests with
+ * a changing number of virtual users, see {@link LoadRecipeExecutor}. Each level of concurrency is run once, for the
+ * configured step duration after the configured step warm-up.
+ */
+
+public class CapacitySearch {
+    private final static Logger LOG = LoggerFactory.getLogger(CapacitySearch.class);
+
+    public enum Strategy {
+        /**
+         * Adds virtual users while the SLA is met; when it is breached, halves the number of virtual users and the
+         * increment, until the increment reaches zero
+         */
+        AIMD,
+        /**
+         * Doubles the number of virtual users until the SLA is breached, then bisects between the last level that met
+         * it and the first that did not
+         */
+        BINARY_SEARCH
+    }
+
+    private final RecipeExecutor recipeExecutor;
+    private LatencySla sla = new LatencySla();
+    private Strategy strategy = Strategy.BINARY_SEARCH;
+    private int initialConcurrency = 1;
+    private int maxConcurrency = 256;
+    private int additiveIncrease = 4;
+    private int maxSteps = 20;
+    private long stepDurationMillis = TimeUnit.SECONDS.toMillis(10);
+    private long stepWarmUpMillis = TimeUnit.SECONDS.toMillis(2);
+
+    public CapacitySearch(RecipeExecutor recipeExecutor) {
+        this.recipeExecutor = recipeExecutor;
+    }
+
+    public CapacitySearch withSla(LatencySla sla) {
+        this.sla = sla;
+        return this;
+    }
+
+    public CapacitySearch withStrategy(Strategy strategy) {
+        this.strategy = strategy;
+        return this;
+    }
+
+    /**
+     * @param initialConcurrency the number of virtual users of the first step, defaults to 1
+     */
+    public CapacitySearch withInitialConcurrency(int initialConcurrency) {
+        this.initialConcurrency = initialConcurrency;
+        return this;
+    }
+
+    /**
+     * @param maxConcurrency the highest number of virtual users to try, defaults to 256
+     */
+    public CapacitySearch withMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * @param additiveIncrease the number of virtual users added after a step that met the SLA when using
+     *                         {@link Strategy#AIMD}, defaults to 4
+     */
+    public CapacitySearch withAdditiveIncrease(int additiveIncrease) {
+        this.additiveIncrease = additiveIncrease;
+        return this;
+    }
+
+    /**
+     * @param maxSteps the maximum number of load tests to run, defaults to 20
+     */
+    public CapacitySearch withMaxSteps(int maxSteps) {
+        this.maxSteps = maxSteps;
+        return this;
+    }
+
+    /**
+     * @param duration how long to measure each level of concurrency, defaults to 10 seconds
+     * @param unit     the time unit of the duration
+     */
+    public CapacitySearch withStepDuration(long duration, TimeUnit unit) {
+        this.stepDurationMillis = unit.toMillis(duration);
+        return this;
+    }
+
+    /**
+     * @param warmUp how long to run each level of concurrency before measuring it, defaults to 2 seconds
+     * @param unit   the time unit of the warm-up
+     */
+    public CapacitySearch withStepWarmUp(long warmUp, TimeUnit unit) {
+        this.stepWarmUpMillis = unit.toMillis(warmUp);
+        return this;
+    }
+
+    /**
+     * Runs the search and waits for it to finish
+     *
+     * @param recipe the recipe to execute
+     * @return the latency curve and the highest throughput that met the SLA
+     */
+    public CapacitySearchResult run(TestRecipe recipe) {
+        if (initialConcurrency < 1 || maxConcurrency < initialConcurrency) {
+            throw new IllegalStateException("Concurrency must be between 1 and " + maxConcurrency + ", was " +
+                    initialConcurrency);
+        }
+
+        Map<Integer, CapacityPoint> points = new LinkedHashMap<>();
+        if (strategy == Strategy.AIMD) {
+            runAimd(recipe, points);
+        } else {
+            runBinarySearch(recipe, points);
+        }
+        return new CapacitySearchResult(points.values());
+    }
+
+    private void runAimd(TestRecipe recipe, Map<Integer, CapacityPoint> points) {
+        int concurrency = initialConcurrency;
+        int increment = additiveIncrease;
+        while (points.size() < maxSteps && increment > 0) {
+            if (measure(recipe, concurrency, points).isSlaMet()) {
+                if (concurrency >= maxConcurrency) {
+                    return;
+                }
+                concurrency = Math.min(maxConcurrency, concurrency + increment);
+            } else {
+                if (concurrency == 1) {
+                    return;
+                }
+                increment /= 2;
+                concurrency = Math.max(1, concurrency / 2);
+            }
+        }
+    }
+
+    private void runBinarySearch(TestRecipe recipe, Map<Integer, CapacityPoint> points) {
+        int highestMet = 0;
+        int lowestBreached = maxConcurrency + 1;
+        int concurrency = initialConcurrency;
+        while (points.size() < maxSteps) {
+            if (measure(recipe, concurrency, points).isSlaMet()) {
+                highestMet = concurrency;
+                if (concurrency >= maxConcurrency) {
+                    return;
+                }
+                concurrency = Math.min(maxConcurrency, concurrency * 2);
+            } else {
+                lowestBreached = concurrency;
+                break;
+            }
+        }
+
+        while (points.size() < maxSteps && lowestBreached - highestMet > 1) {
+            int middle = (highestMet + lowestBreached) / 2;
+            if (measure(recipe, middle, points).isSlaMet()) {
+                highestMet = middle;
+            } else {
+                lowestBreached = middle;
+            }
+        }
+    }
+
+    private CapacityPoint measure(TestRecipe recipe, int concurrency, Map<Integer, CapacityPoint> points) {
+        CapacityPoint point = points.get(concurrency);
+        if (point == null) {
+            LoadTestResult result = new LoadRecipeExecutor(recipeExecutor)
+                    .withVirtualUsers(concurrency)
+                    .withWarmUp(stepWarmUpMillis, TimeUnit.MILLISECONDS)
+                    .withDuration(stepDurationMillis, TimeUnit.MILLISECONDS)
+                    .run(recipe);
+            point = new CapacityPoint(concurrency, result, sla.getViolation(result));
+            points.put(concurrency, point);
+            LOG.info("Capacity search step: " + point);
+        }
+        return point;
+    }
+}
@@ -0,0 +1,56 @@
+package com.smartbear.readyapi4j.load;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The outcome of a {@link CapacitySearch}: every level of concurrency that was tried, and the highest throughput that
+ * met the SLA
+ */
+
+public class CapacitySearchResult {
+    private final List<CapacityPoint> latencyCurve;
+
+    CapacitySearchResult(Collection<CapacityPoint> points) {
+        List<CapacityPoint> sortedPoints = new ArrayList<>(points);
+        sortedPoints.sort(Comparator.comparingInt(CapacityPoint::getConcurrency));
+        this.latencyCurve = Collections.unmodifiableList(sortedPoints);
+    }
+
+    /**
+     * @return the results of all levels of concurrency that were tried, ordered by concurrency
+     */
+    public List<CapacityPoint> getLatencyCurve() {
+        return latencyCurve;
+    }
+
+    /**
+     * @return the point with the highest throughput that met the SLA, if any did
+     */
+    public Optional<CapacityPoint> getMaxSustainablePoint() {
+        return latencyCurve.stream()
+                .filter(CapacityPoint::isSlaMet)
+                .max(Comparator.comparingDouble(CapacityPoint::getThroughput));
+    }
+
+    /**
+     * @return the highest number of recipe executions per second that met the SLA, or 0 if none did
+     */
+    public double getMaxSustainableThroughput() {
+        return getMaxSustainablePoint().map(CapacityPoint::getThroughput).orElse(0.0);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("Max sustainable throughput: ")
+                .append(String.format("%.1f/s", getMaxSustainableThroughput()));
+        for (CapacityPoint point : latencyCurve) {
+            result.append("\n  ").append(point);
+        }
+        return result.toString();
+    }
+}
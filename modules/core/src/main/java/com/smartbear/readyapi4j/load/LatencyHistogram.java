@@ -0,0 +1,135 @@
+package com.smartbear.readyapi4j.load;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram in the style of HdrHistogram: values are counted in buckets that are linear below 128
+ * and logarithmic above, with 64 sub-buckets per power of two, which keeps the relative error of percentiles below 2%
+ * for any value. Recording is safe from any number of threads.
+ */
+
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT_BITS = SUB_BUCKET_BITS - 1;
+    private static final int BUCKET_INDEX_COUNT = bucketIndex(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_INDEX_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalValue = new LongAdder();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * @param value the value to record, negative values are recorded as 0
+     */
+    public void record(long value) {
+        long recordedValue = Math.max(0, value);
+        counts.incrementAndGet(bucketIndex(recordedValue));
+        totalCount.increment();
+        totalValue.add(recordedValue);
+        if (recordedValue > maxValue.get()) {
+            maxValue.accumulateAndGet(recordedValue, Math::max);
+        }
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * @return the highest recorded value, or 0 if nothing has been recorded
+     */
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    /**
+     * @return the mean of all recorded values, or 0 if nothing has been recorded
+     */
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) totalValue.sum() / count;
+    }
+
+    /**
+     * @param percentile the percentile to get, between 0 and 100
+     * @return the value that the specified percentage of recorded values is less than or equal to, or 0 if nothing
+     * has been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = 0;
+        for (int i = 0; i < BUCKET_INDEX_COUNT; i++) {
+            count += counts.get(i);
+        }
+        long countAtPercentile = Math.max(1, (long) Math.ceil(Math.min(100, percentile) / 100 * count));
+
+        long cumulativeCount = 0;
+        for (int i = 0; i < BUCKET_INDEX_COUNT; i++) {
+            cumulativeCount += counts.get(i);
+            if (cumulativeCount >= countAtPercentile) {
+                return Math.min(highestValueInBucket(i), getMax());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Adds all values recorded in the specified histogram to this one
+     *
+     * @param other the histogram to add
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_INDEX_COUNT; i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.add(other.totalCount.sum());
+        totalValue.add(other.totalValue.sum());
+        maxValue.accumulateAndGet(other.getMax(), Math::max);
+    }
+
+    /**
+     * @return a copy of this histogram that is not affected by values recorded after this call
+     */
+    public LatencyHistogram copy() {
+        LatencyHistogram copy = new LatencyHistogram();
+        copy.add(this);
+        return copy;
+    }
+
+    /**
+     * Removes all recorded values. Values recorded concurrently with this call may or may not be kept.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_INDEX_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.reset();
+        totalValue.reset();
+        maxValue.set(0);
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_HALF_COUNT_BITS;
+        return (shift << SUB_BUCKET_HALF_COUNT_BITS) + (int) (value >>> shift);
+    }
+
+    private static long highestValueInBucket(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >> SUB_BUCKET_HALF_COUNT_BITS) - 1;
+        long subBucket = index - ((long) shift << SUB_BUCKET_HALF_COUNT_BITS);
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
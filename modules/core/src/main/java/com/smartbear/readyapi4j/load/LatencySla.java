@@ -0,0 +1,96 @@
+package com.smartbear.readyapi4j.load;
+
+import com.smartbear.readyapi4j.assertions.ResponseSLAAssertionBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Service level a load test result has to meet: a maximum p99 latency for the recipe and for individual TestSteps,
+ * and a maximum ratio of failed executions
+ */
+
+public class LatencySla {
+    private long maxRecipeP99 = Long.MAX_VALUE;
+    private final Map<String, Long> maxStepP99 = new LinkedHashMap<>();
+    private double maxFailureRatio = 0;
+
+    /**
+     * @param maxP99Millis the maximum p99 latency of complete recipe executions, in milliseconds
+     */
+    public LatencySla withMaxRecipeP99(long maxP99Millis) {
+        this.maxRecipeP99 = maxP99Millis;
+        return this;
+    }
+
+    /**
+     * @param testStepName the name of the TestStep
+     * @param maxP99Millis the maximum p99 latency of the TestStep, in milliseconds
+     */
+    public LatencySla withMaxStepP99(String testStepName, long maxP99Millis) {
+        maxStepP99.put(testStepName, maxP99Millis);
+        return this;
+    }
+
+    /**
+     * Uses the max response time of a Response SLA assertion as the maximum p99 latency of a TestStep
+     *
+     * @param testStepName the name of the TestStep
+     * @param slaAssertion the assertion defining the max response time
+     * @throws IllegalArgumentException if the max response time is not a number of milliseconds
+     */
+    public LatencySla withMaxStepP99(String testStepName, ResponseSLAAssertionBuilder slaAssertion) {
+        String maxResponseTime = slaAssertion.build().getMaxResponseTime();
+        try {
+            return withMaxStepP99(testStepName, Long.parseLong(maxResponseTime.trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Max response time must be a number of milliseconds, was " +
+                    maxResponseTime, e);
+        }
+    }
+
+    /**
+     * @param maxFailureRatio the maximum ratio of failed recipe and TestStep executions, between 0 and 1
+     */
+    public LatencySla withMaxFailureRatio(double maxFailureRatio) {
+        this.maxFailureRatio = maxFailureRatio;
+        return this;
+    }
+
+    /**
+     * @param result the result of a load test
+     * @return true if the result meets all requirements of this SLA
+     */
+    public boolean isMetBy(LoadTestResult result) {
+        return getViolation(result) == null;
+    }
+
+    /**
+     * @param result the result of a load test
+     * @return a description of the first requirement the result does not meet, or null if it meets all of them
+     */
+    public String getViolation(LoadTestResult result) {
+        LatencyStatistics recipeStatistics = result.getRecipeStatistics();
+        if (recipeStatistics.getCount() == 0) {
+            return "No executions were measured";
+        }
+        if (recipeStatistics.getP99() > maxRecipeP99) {
+            return "Recipe p99 " + recipeStatistics.getP99() + " ms exceeds " + maxRecipeP99 + " ms";
+        }
+        if (recipeStatistics.getFailureRatio() > maxFailureRatio) {
+            return "Recipe failure ratio " + recipeStatistics.getFailureRatio() + " exceeds " + maxFailureRatio;
+        }
+        for (LatencyStatistics stepStatistics : result.getStepStatistics().values()) {
+            Long maxP99 = maxStepP99.get(stepStatistics.getName());
+            if (maxP99 != null && stepStatistics.getP99() > maxP99) {
+                return "TestStep " + stepStatistics.getName() + " p99 " + stepStatistics.getP99() + " ms exceeds " +
+                        maxP99 + " ms";
+            }
+            if (stepStatistics.getFailureRatio() > maxFailureRatio) {
+                return "TestStep " + stepStatistics.getName() + " failure ratio " + stepStatistics.getFailureRatio() +
+                        " exceeds " + maxFailureRatio;
+            }
+        }
+        return null;
+    }
+}
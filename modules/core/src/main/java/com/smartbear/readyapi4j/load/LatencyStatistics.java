@@ -0,0 +1,93 @@
+package com.smartbear.readyapi4j.load;
+
+/**
+ * Immutable summary of the latencies recorded for a TestStep or a whole recipe, in milliseconds
+ */
+
+public class LatencyStatistics {
+    private final String name;
+    private final long count;
+    private final long failureCount;
+    private final double mean;
+    private final long p50;
+    private final long p90;
+    private final long p99;
+    private final long max;
+    private final double throughput;
+
+    /**
+     * @param name          the name of the TestStep or recipe
+     * @param histogram     the recorded latencies
+     * @param failureCount  the number of failed executions
+     * @param elapsedMillis the time during which the latencies were recorded, used to calculate the throughput
+     */
+    public LatencyStatistics(String name, LatencyHistogram histogram, long failureCount, long elapsedMillis) {
+        this.name = name;
+        this.count = histogram.getCount();
+        this.failureCount = failureCount;
+        this.mean = histogram.getMean();
+        this.p50 = histogram.getValueAtPercentile(50);
+        this.p90 = histogram.getValueAtPercentile(90);
+        this.p99 = histogram.getValueAtPercentile(99);
+        this.max = histogram.getMax();
+        this.throughput = elapsedMillis > 0 ? count * 1000.0 / elapsedMillis : 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the number of recorded latencies
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the number of recorded executions that failed
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * @return the ratio of failed executions, between 0 and 1
+     */
+    public double getFailureRatio() {
+        return count == 0 ? 0 : (double) failureCount / count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public long getP50() {
+        return p50;
+    }
+
+    public long getP90() {
+        return p90;
+    }
+
+    public long getP99() {
+        return p99;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * @return the number of recorded executions per second
+     */
+    public double getThroughput() {
+        return throughput;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: count=%d, failures=%d, mean=%.1fms, p50=%dms, p90=%dms, p99=%dms, max=%dms, " +
+                "throughput=%.1f/s", name, count, failureCount, mean, p50, p90, p99, max, throughput);
+    }
+}
@@ -0,0 +1,89 @@
+package com.smartbear.readyapi4j.load;
+
+import com.smartbear.readyapi.client.model.ProjectResultReport;
+import com.smartbear.readyapi4j.ExecutionListener;
+import com.smartbear.readyapi4j.execution.Execution;
+import com.smartbear.readyapi4j.result.RecipeExecutionResult;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ExecutionListener that aggregates the time taken by every finished execution, and by each of its TestSteps, into
+ * lock-free histograms. Percentiles and throughput are available while executions are running; throughput is
+ * calculated from the time since the listener was created or last reset.
+ */
+
+public class LatencyStatsListener implements ExecutionListener {
+    private static final String RECIPE_STATISTICS_NAME = "executions";
+
+    private final AtomicReference<Window> window = new AtomicReference<>(new Window());
+
+    @Override
+    public void executionFinished(Execution execution) {
+        RecipeExecutionResult executionResult = execution.getExecutionResult();
+        long timeTaken = executionResult == null ? 0 : executionResult.getTimeTaken();
+        window.get().recorder.recordExecution(null,
+                execution.getCurrentStatus() == ProjectResultReport.StatusEnum.FAILED, executionResult, timeTaken);
+    }
+
+    /**
+     * @return statistics for the time taken by complete executions
+     */
+    public LatencyStatistics getExecutionStatistics() {
+        Window currentWindow = window.get();
+        return currentWindow.recorder.getRecipeStatistics(RECIPE_STATISTICS_NAME, currentWindow.getElapsedTime());
+    }
+
+    /**
+     * @param testStepName the name of the TestStep
+     * @return statistics for the time taken by the specified TestStep, or null if it has not been executed
+     */
+    public LatencyStatistics getStepStatistics(String testStepName) {
+        Window currentWindow = window.get();
+        return currentWindow.recorder.getStepStatistics(testStepName, currentWindow.getElapsedTime());
+    }
+
+    /**
+     * @return statistics for all TestSteps, by TestStep name
+     */
+    public Map<String, LatencyStatistics> getStepStatistics() {
+        return getSnapshot().getStepStatistics();
+    }
+
+    /**
+     * @return statistics for all executions and TestSteps recorded so far
+     */
+    public LoadTestResult getSnapshot() {
+        return window.get().createSnapshot();
+    }
+
+    /**
+     * Returns statistics for all executions and TestSteps recorded so far and starts recording from scratch
+     *
+     * @return the statistics recorded before the reset
+     */
+    public LoadTestResult getSnapshotAndReset() {
+        return window.getAndSet(new Window()).createSnapshot();
+    }
+
+    /**
+     * Discards all recorded statistics
+     */
+    public void reset() {
+        window.set(new Window());
+    }
+
+    private static class Window {
+        private final LoadRecorder recorder = new LoadRecorder();
+        private final long startTime = System.currentTimeMillis();
+
+        long getElapsedTime() {
+            return System.currentTimeMillis() - startTime;
+        }
+
+        LoadTestResult createSnapshot() {
+            return recorder.createResult(RECIPE_STATISTICS_NAME, getElapsedTime());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.smartbear.readyapi4j.load;
+
+import com.smartbear.readyapi4j.TestRecipe;
+import com.smartbear.readyapi4j.execution.Execution;
+import com.smartbear.readyapi4j.execution.RecipeExecutionException;
+import com.smartbear.readyapi4j.execution.RecipeExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs a TestRecipe as a closed-model load test on any RecipeExecutor: a fixed number of virtual users each execute
+ * the recipe synchronously, over and over, until the configured duration has passed or the configured number of
+ * iterations has been executed. Executions during the warm-up are not recorded.
+ * <p>
+ * A failing execution is recorded as a failed sample, but a virtual user whose executions keep throwing exceptions
+ * aborts the load test after the configured number of consecutive failures, rather than spinning on an executor that
+ * fails immediately.</p>
+ * <p>
+ * Recipe filters of the wrapped executor are applied to the same recipe by all virtual users, so they should not
+ * modify it in ways that depend on previous executions.</p>
+ */
+
+public class LoadRecipeExecutor {
+    private final static Logger LOG = LoggerFactory.getLogger(LoadRecipeExecutor.class);
+    private static final AtomicInteger loadTestCounter = new AtomicInteger();
+    private static final int DEFAULT_MAX_CONSECUTIVE_FAILURES = 100;
+
+    private final RecipeExecutor recipeExecutor;
+    private int virtualUsers = 1;
+    private long durationMillis;
+    private long iterations;
+    private long warmUpMillis;
+    private int maxConsecutiveFailures = DEFAULT_MAX_CONSECUTIVE_FAILURES;
+
+    public LoadRecipeExecutor(RecipeExecutor recipeExecutor) {
+        this.recipeExecutor = recipeExecutor;
+    }
+
+    /**
+     * @param virtualUsers the number of recipes to execute concurrently
+     */
+    public LoadRecipeExecutor withVirtualUsers(int virtualUsers) {
+        if (virtualUsers < 1) {
+            throw new IllegalArgumentException("There must be at least 1 virtual user, was " + virtualUsers);
+        }
+        this.virtualUsers = virtualUsers;
+        return this;
+    }
+
+    /**
+     * @param duration how long to run the load test after the warm-up
+     * @param unit     the time unit of the duration
+     */
+    public LoadRecipeExecutor withDuration(long duration, TimeUnit unit) {
+        this.durationMillis = unit.toMillis(duration);
+        return this;
+    }
+
+    /**
+     * @param iterations the total number of recipe executions to measure, across all virtual users
+     */
+    public LoadRecipeExecutor withIterations(long iterations) {
+        this.iterations = iterations;
+        return this;
+    }
+
+    /**
+     * @param warmUp how long to execute the recipe before recording latencies
+     * @param unit   the time unit of the warm-up
+     */
+    public LoadRecipeExecutor withWarmUp(long warmUp, TimeUnit unit) {
+        this.warmUpMillis = unit.toMillis(warmUp);
+        return this;
+    }
+
+    /**
+     * @param maxConsecutiveFailures the number of executions in a row that may throw an exception for a virtual user
+     *                               before the load test is aborted, 100 by default
+     */
+    public LoadRecipeExecutor withMaxConsecutiveFailures(int maxConsecutiveFailures) {
+        if (maxConsecutiveFailures < 1) {
+            throw new IllegalArgumentException("At least 1 consecutive failure must be allowed, was "
+                    + maxConsecutiveFailures);
+        }
+        this.maxConsecutiveFailures = maxConsecutiveFailures;
+        return this;
+    }
+
+    public RecipeExecutor getRecipeExecutor() {
+        return recipeExecutor;
+    }
+
+    /**
+     * Runs the load test and waits for it to finish
+     *
+     * @param recipe the recipe to execute
+     * @return the latency statistics of the recipe and its TestSteps
+     */
+    public LoadTestResult run(TestRecipe recipe) {
+        if (durationMillis <= 0 && iterations <= 0) {
+            throw new IllegalStateException("Either a duration or a number of iterations must be configured");
+        }
+
+        LoadRecorder recorder = new LoadRecorder();
+        AtomicLong startedIterations = new AtomicLong();
+        long measurementStart = System.currentTimeMillis() + warmUpMillis;
+        long measurementEnd = durationMillis > 0 ? measurementStart + durationMillis : Long.MAX_VALUE;
+
+        int loadTestNumber = loadTestCounter.incrementAndGet();
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService threadPool = Executors.newFixedThreadPool(virtualUsers, runnable -> {
+            Thread thread = new Thread(runnable, "readyapi4j-load-" + loadTestNumber + "-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>(virtualUsers);
+            for (int i = 0; i < virtualUsers; i++) {
+                futures.add(threadPool.submit(() ->
+                        runVirtualUser(recipe, recorder, startedIterations, measurementStart, measurementEnd)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new RecipeExecutionException("Virtual user failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RecipeExecutionException("Interrupted while running load test", e);
+        } finally {
+            threadPool.shutdownNow();
+        }
+
+        long elapsedMillis = Math.max(0, System.currentTimeMillis() - measurementStart);
+        return recorder.createResult(recipe.getName(), elapsedMillis);
+    }
+
+    private void runVirtualUser(TestRecipe recipe, LoadRecorder recorder, AtomicLong startedIterations,
+                                long measurementStart, long measurementEnd) {
+        int consecutiveFailures = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            long startTime = System.currentTimeMillis();
+            boolean measured = startTime >= measurementStart;
+            if (measured && (startTime >= measurementEnd ||
+                    (iterations > 0 && startedIterations.incrementAndGet() > iterations))) {
+                return;
+            }
+
+            Execution execution;
+            try {
+                execution = recipeExecutor.executeRecipe(recipe);
+            } catch (RuntimeException e) {
+                // a failing iteration, whatever the cause, is a failed sample and not the end of the virtual user
+                LOG.debug("Iteration of load test failed", e);
+                if (measured) {
+                    recorder.recordFailure(recipe.getName(), System.currentTimeMillis() - startTime);
+                }
+                if (++consecutiveFailures >= maxConsecutiveFailures) {
+                    throw new RecipeExecutionException("Aborting load test after " + consecutiveFailures
+                            + " consecutive failed iterations", e);
+                }
+                continue;
+            }
+            consecutiveFailures = 0;
+            if (measured) {
+                recorder.recordExecution(recipe.getName(), execution, System.currentTimeMillis() - startTime);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.smartbear.readyapi4j.load;
+
+import com.smartbear.readyapi.client.model.ProjectResultReport;
+import com.smartbear.readyapi.client.model.TestStepResultReport;
+import com.smartbear.readyapi4j.execution.Execution;
+import com.smartbear.readyapi4j.result.RecipeExecutionResult;
+import com.smartbear.readyapi4j.result.TestStepResult;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records recipe and TestStep latencies of a load test from any number of threads
+ */
+
+class LoadRecorder {
+    private final LatencyHistogram recipeLatencies = new LatencyHistogram();
+    private final LongAdder recipeFailures = new LongAdder();
+    private final Map<String, LatencyHistogram> recipeLatenciesByName = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> recipeFailuresByName = new ConcurrentHashMap<>();
+    private final LongAdder droppedIterations = new LongAdder();
+    private final Map<String, LatencyHistogram> stepLatencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> stepFailures = new ConcurrentHashMap<>();
+
+    void recordExecution(String recipeName, Execution execution, long latencyMillis) {
+        recordExecution(recipeName, execution.getCurrentStatus() == ProjectResultReport.StatusEnum.FAILED,
+                execution.getExecutionResult(), latencyMillis);
+    }
+
+    void recordExecution(String recipeName, boolean failed, RecipeExecutionResult executionResult, long latencyMillis) {
+        recordRecipe(recipeName, latencyMillis, failed);
+        if (executionResult == null) {
+            return;
+        }
+        for (TestStepResult testStepResult : executionResult.getTestStepResults()) {
+            if (testStepResult.getTimeTaken() == null) {
+                continue;
+            }
+            String testStepName = String.valueOf(testStepResult.getTestStepName());
+            histogramFor(stepLatencies, testStepName).record(testStepResult.getTimeTaken());
+            LongAdder failures = counterFor(stepFailures, testStepName);
+            if (testStepResult.getAssertionStatus() == TestStepResultReport.AssertionStatusEnum.FAILED) {
+                failures.increment();
+            }
+        }
+    }
+
+    void recordFailure(String recipeName, long latencyMillis) {
+        recordRecipe(recipeName, latencyMillis, true);
+    }
+
+    void recordDroppedIteration() {
+        droppedIterations.increment();
+    }
+
+    private void recordRecipe(String recipeName, long latencyMillis, boolean failed) {
+        recipeLatencies.record(latencyMillis);
+        if (failed) {
+            recipeFailures.increment();
+        }
+        if (recipeName != null) {
+            histogramFor(recipeLatenciesByName, recipeName).record(latencyMillis);
+            LongAdder failures = counterFor(recipeFailuresByName, recipeName);
+            if (failed) {
+                failures.increment();
+            }
+        }
+    }
+
+    // get before computeIfAbsent, which locks even when the key is present
+    private static LatencyHistogram histogramFor(Map<String, LatencyHistogram> histograms, String name) {
+        LatencyHistogram histogram = histograms.get(name);
+        return histogram != null ? histogram : histograms.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    private static LongAdder counterFor(Map<String, LongAdder> counters, String name) {
+        LongAdder counter = counters.get(name);
+        return counter != null ? counter : counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    LatencyStatistics getStepStatistics(String testStepName, long elapsedMillis) {
+        LatencyHistogram histogram = stepLatencies.get(testStepName);
+        if (histogram == null) {
+            return null;
+        }
+        LongAdder failureCount = stepFailures.get(testStepName);
+        return new LatencyStatistics(testStepName, histogram.copy(), failureCount == null ? 0 : failureCount.sum(),
+                elapsedMillis);
+    }
+
+    LatencyStatistics getRecipeStatistics(String name, long elapsedMillis) {
+        return new LatencyStatistics(name, recipeLatencies.copy(), recipeFailures.sum(), elapsedMillis);
+    }
+
+    LoadTestResult createResult(String name, long elapsedMillis) {
+        return new LoadTestResult(elapsedMillis, droppedIterations.sum(), getRecipeStatistics(name, elapsedMillis),
+                createStatistics(recipeLatenciesByName, recipeFailuresByName, elapsedMillis),
+                createStatistics(stepLatencies, stepFailures, elapsedMillis));
+    }
+
+    private static Map<String, LatencyStatistics> createStatistics(Map<String, LatencyHistogram> latencies,
+                                                                  Map<String, LongAdder> failures, long elapsedMillis) {
+        Map<String, LatencyStatistics> statistics = new LinkedHashMap<>();
+        latencies.forEach((name, histogram) -> {
+            LongAdder failureCount = failures.get(name);
+            statistics.put(name, new LatencyStatistics(name, histogram.copy(),
+                    failureCount == null ? 0 : failureCount.sum(), elapsedMillis));
+        });
+        return statistics;
+    }
+}
@@ -0,0 +1,93 @@
+package com.smartbear.readyapi4j.load;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The outcome of a load test: latency statistics for the recipe as a whole and for each of its TestSteps, recorded
+ * after the warm-up.
+ */
+
+public class LoadTestResult {
+    private final long elapsedMillis;
+    private final long droppedIterations;
+    private final LatencyStatistics recipeStatistics;
+    private final Map<String, LatencyStatistics> recipeStatisticsByName;
+    private final Map<String, LatencyStatistics> stepStatistics;
+
+    LoadTestResult(long elapsedMillis, long droppedIterations, LatencyStatistics recipeStatistics,
+                   Map<String, LatencyStatistics> recipeStatisticsByName, Map<String, LatencyStatistics> stepStatistics) {
+        this.elapsedMillis = elapsedMillis;
+        this.droppedIterations = droppedIterations;
+        this.recipeStatistics = recipeStatistics;
+        this.recipeStatisticsByName = Collections.unmodifiableMap(recipeStatisticsByName);
+        this.stepStatistics = Collections.unmodifiableMap(stepStatistics);
+    }
+
+    /**
+     * @return the duration of the measured part of the load test, in milliseconds
+     */
+    public long getElapsedTime() {
+        return elapsedMillis;
+    }
+
+    /**
+     * @return the number of recipe executions that were measured
+     */
+    public long getIterationCount() {
+        return recipeStatistics.getCount();
+    }
+
+    /**
+     * @return the number of iterations that were not started because too many were already in flight
+     */
+    public long getDroppedIterationCount() {
+        return droppedIterations;
+    }
+
+    /**
+     * @return latency statistics for complete recipe executions
+     */
+    public LatencyStatistics getRecipeStatistics() {
+        return recipeStatistics;
+    }
+
+    /**
+     * @param recipeName the name of a recipe in the workload
+     * @return latency statistics for executions of the specified recipe, or null if it was never executed
+     */
+    public LatencyStatistics getRecipeStatistics(String recipeName) {
+        return recipeStatisticsByName.get(recipeName);
+    }
+
+    /**
+     * @return latency statistics for each recipe in the workload, by recipe name
+     */
+    public Map<String, LatencyStatistics> getRecipeStatisticsByName() {
+        return recipeStatisticsByName;
+    }
+
+    /**
+     * @return latency statistics for each TestStep, by TestStep name
+     */
+    public Map<String, LatencyStatistics> getStepStatistics() {
+        return stepStatistics;
+    }
+
+    /**
+     * @param testStepName the name of the TestStep
+     * @return latency statistics for the specified TestStep, or null if it was never executed
+     */
+    public LatencyStatistics getStepStatistics(String testStepName) {
+        return stepStatistics.get(testStepName);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder(recipeStatistics.toString());
+        for (LatencyStatistics statistics : stepStatistics.values()) {
+            result.append("\n  ").append(statistics);
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,199 @@
+package com.smartbear.readyapi4j.load;
+
+import com.smartbear.readyapi4j.TestRecipe;
+import com.smartbear.readyapi4j.execution.Execution;
+import com.smartbear.readyapi4j.execution.RecipeExecutionException;
+import com.smartbear.readyapi4j.execution.RecipeExecutor;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs TestRecipes as an open-model load test on any RecipeExecutor: iterations are started asynchronously at the
+ * rate given by an {@link ArrivalRateProfile}, regardless of how long earlier iterations take. Latencies are measured
+ * from the time an iteration was supposed to start rather than when it actually started, so a slow server or a
+ * saturated executor shows up in the results instead of silently lowering the load (coordinated omission).
+ * <p>
+ * Works with any executor that supports {@link RecipeExecutor#submitRecipeAsync(TestRecipe)} well, such as the local
+ * SoapUIRecipeExecutor and the TestServerRecipeExecutor. Submitting a recipe may block, for example to post it to
+ * a TestServer, so recipes are submitted on a pool of submission threads and the thread that starts iterations is
+ * never held up by a submission.</p>
+ */
+
+public class OpenLoadRecipeExecutor {
+    public static final int DEFAULT_MAX_IN_FLIGHT = 10000;
+    public static final int DEFAULT_SUBMISSION_THREADS = 16;
+
+    private static final long IDLE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final AtomicInteger loadTestCounter = new AtomicInteger();
+
+    private final RecipeExecutor recipeExecutor;
+    private ArrivalRateProfile arrivalRate;
+    private long durationMillis;
+    private long warmUpMillis;
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    private int submissionThreads = DEFAULT_SUBMISSION_THREADS;
+
+    public OpenLoadRecipeExecutor(RecipeExecutor recipeExecutor) {
+        this.recipeExecutor = recipeExecutor;
+    }
+
+    /**
+     * @param arrivalRate the rate at which iterations are started
+     */
+    public OpenLoadRecipeExecutor withArrivalRate(ArrivalRateProfile arrivalRate) {
+        this.arrivalRate = arrivalRate;
+        return this;
+    }
+
+    /**
+     * @param ratePerSecond the fixed number of iterations to start per second
+     */
+    public OpenLoadRecipeExecutor withArrivalRate(double ratePerSecond) {
+        return withArrivalRate(ArrivalRateProfile.constant(ratePerSecond));
+    }
+
+    /**
+     * @param duration how long to start iterations after the warm-up
+     * @param unit     the time unit of the duration
+     */
+    public OpenLoadRecipeExecutor withDuration(long duration, TimeUnit unit) {
+        this.durationMillis = unit.toMillis(duration);
+        return this;
+    }
+
+    /**
+     * @param warmUp how long to start iterations before recording latencies
+     * @param unit   the time unit of the warm-up
+     */
+    public OpenLoadRecipeExecutor withWarmUp(long warmUp, TimeUnit unit) {
+        this.warmUpMillis = unit.toMillis(warmUp);
+        return this;
+    }
+
+    /**
+     * @param maxInFlight the maximum number of unfinished iterations; iterations that are due while this many are in
+     *                    flight are dropped and counted in {@link LoadTestResult#getDroppedIterationCount()}
+     */
+    public OpenLoadRecipeExecutor withMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    /**
+     * @param submissionThreads the number of threads that submit recipes to the executor; submissions that are due
+     *                          while all of them are busy wait for a free thread, and count as in flight meanwhile
+     */
+    public OpenLoadRecipeExecutor withSubmissionThreads(int submissionThreads) {
+        if (submissionThreads < 1) {
+            throw new IllegalArgumentException("There must be at least 1 submission thread, was " + submissionThreads);
+        }
+        this.submissionThreads = submissionThreads;
+        return this;
+    }
+
+    /**
+     * Runs the load test with a single recipe and waits for all started iterations to finish
+     *
+     * @param recipe the recipe to execute
+     * @return the latency statistics of the recipe and its TestSteps
+     */
+    public LoadTestResult run(TestRecipe recipe) {
+        return run(new WorkloadMix().withRecipe(recipe, 1));
+    }
+
+    /**
+     * Runs the load test, picking the recipe of every iteration from the specified mix, and waits for all started
+     * iterations to finish
+     *
+     * @param workload the recipes to execute
+     * @return the latency statistics of each recipe and of all TestSteps
+     */
+    public LoadTestResult run(WorkloadMix workload) {
+        if (arrivalRate == null || durationMillis <= 0) {
+            throw new IllegalStateException("An arrival rate and a duration must be configured");
+        }
+
+        LoadRecorder recorder = new LoadRecorder();
+        Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+        long startTime = System.nanoTime();
+        long measurementStart = startTime + TimeUnit.MILLISECONDS.toNanos(warmUpMillis);
+        long measurementEnd = measurementStart + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+
+        int loadTestNumber = loadTestCounter.incrementAndGet();
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService submissionPool = Executors.newFixedThreadPool(submissionThreads, runnable -> {
+            Thread thread = new Thread(runnable,
+                    "readyapi4j-open-load-" + loadTestNumber + "-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            long intendedStart = startTime;
+            while (intendedStart < measurementEnd) {
+                waitUntil(intendedStart);
+                boolean measured = intendedStart >= measurementStart;
+                // queued submissions are in flight too, so the queue of the pool is bounded by maxInFlight
+                if (inFlight.size() >= maxInFlight) {
+                    if (measured) {
+                        recorder.recordDroppedIteration();
+                    }
+                } else {
+                    startIteration(workload.nextRecipe(), intendedStart, measured, recorder, inFlight,
+                            submissionPool);
+                }
+                intendedStart = nextIntendedStart(intendedStart, startTime);
+            }
+        } finally {
+            submissionPool.shutdown();
+        }
+
+        CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0])).join();
+        return recorder.createResult("workload", durationMillis);
+    }
+
+    private void startIteration(TestRecipe recipe, long intendedStart, boolean measured, LoadRecorder recorder,
+                                Set<CompletableFuture<?>> inFlight, ExecutorService submissionPool) {
+        CompletableFuture<Execution> execution = CompletableFuture
+                .supplyAsync(() -> recipeExecutor.submitRecipeAsync(recipe), submissionPool)
+                .thenCompose(submittedExecution -> submittedExecution);
+
+        CompletableFuture<Void> iteration = execution.handle((finishedExecution, error) -> {
+            if (measured) {
+                long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - intendedStart);
+                if (error == null) {
+                    recorder.recordExecution(recipe.getName(), finishedExecution, latencyMillis);
+                } else {
+                    recorder.recordFailure(recipe.getName(), latencyMillis);
+                }
+            }
+            return null;
+        });
+        inFlight.add(iteration);
+        iteration.whenComplete((result, error) -> inFlight.remove(iteration));
+    }
+
+    private long nextIntendedStart(long intendedStart, long startTime) {
+        double rate = arrivalRate.getRate(TimeUnit.NANOSECONDS.toMillis(intendedStart - startTime));
+        if (rate <= 0) {
+            return intendedStart + IDLE_INTERVAL_NANOS;
+        }
+        return intendedStart + Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / rate));
+    }
+
+    private static void waitUntil(long time) {
+        long remaining;
+        while ((remaining = time - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                throw new RecipeExecutionException("Interrupted while running load test");
+            }
+        }
+    }
+}
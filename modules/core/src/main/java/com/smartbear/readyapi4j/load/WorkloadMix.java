@@ -0,0 +1,52 @@
+package com.smartbear.readyapi4j.load;
+
+import com.smartbear.readyapi4j.TestRecipe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A weighted mix of TestRecipes, for example 70% browsing and 30% checkout, from which an
+ * {@link OpenLoadRecipeExecutor} picks the recipe for each iteration
+ */
+
+public class WorkloadMix {
+    private final List<TestRecipe> recipes = new ArrayList<>();
+    private final List<Double> cumulativeWeights = new ArrayList<>();
+    private double totalWeight;
+
+    /**
+     * @param recipe the recipe to add to the mix
+     * @param weight the relative share of iterations that should execute this recipe
+     */
+    public WorkloadMix withRecipe(TestRecipe recipe, double weight) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Weight must be positive, was " + weight);
+        }
+        totalWeight += weight;
+        recipes.add(recipe);
+        cumulativeWeights.add(totalWeight);
+        return this;
+    }
+
+    public List<TestRecipe> getRecipes() {
+        return recipes;
+    }
+
+    /**
+     * @return a randomly picked recipe, according to the weights of the recipes
+     */
+    public TestRecipe nextRecipe() {
+        if (recipes.isEmpty()) {
+            throw new IllegalStateException("The workload mix does not contain any recipes");
+        }
+        double value = ThreadLocalRandom.current().nextDouble(totalWeight);
+        for (int i = 0; i < recipes.size(); i++) {
+            if (value < cumulativeWeights.get(i)) {
+                return recipes.get(i);
+            }
+        }
+        return recipes.get(recipes.size() - 1);
+    }
+}
@@ -1,6 +1,5 @@
 package com.smartbear.readyapi4j.result;
 
-import com.google.common.collect.Lists;
 import com.smartbear.readyapi.client.model.ProjectResultReport;
 import com.smartbear.readyapi.client.model.TestCaseResultReport;
 import com.smartbear.readyapi.client.model.TestStepResultReport;
@@ -9,11 +8,16 @@ import com.smartbear.readyapi.client.model.TestSuiteResultReport;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 public abstract class AbstractRecipeExecutionResult implements RecipeExecutionResult {
     protected final ProjectResultReport report;
     protected final List<TestStepResult> results = new ArrayList<>();
+    // lazily built indexes, for fast lookups in results of data-driven executions with many steps
+    private volatile Map<String, List<TestStepResult>> resultsByName;
+    private volatile List<TestStepResult> failedResults;
 
     public AbstractRecipeExecutionResult(ProjectResultReport currentReport, TestStepResultBuilder testStepResultBuilder) {
         report = currentReport;
@@ -50,10 +54,8 @@ public abstract class AbstractRecipeExecutionResult implements RecipeExecutionRe
     public List<String> getErrorMessages() {
         List<String> result = new ArrayList<>();
 
-        for (TestStepResult testStepResultReport : results) {
-            if (testStepResultReport.getAssertionStatus() == TestStepResultReport.AssertionStatusEnum.FAILED) {
-                result.addAll(testStepResultReport.getMessages());
-            }
+        for (TestStepResult testStepResultReport : getFailedResults()) {
+            result.addAll(testStepResultReport.getMessages());
         }
 
         return result;
@@ -61,12 +63,14 @@ public abstract class AbstractRecipeExecutionResult implements RecipeExecutionRe
 
     @Override
     public Optional<TestStepResult> getFirstTestStepResult(String name) {
-        return results.stream().filter(result -> result.getTestStepName().equalsIgnoreCase(name)).findAny();
+        List<TestStepResult> namedResults = getResultsNamed(name);
+        return namedResults.isEmpty() ? Optional.empty() : Optional.of(namedResults.get(0));
     }
 
     @Override
     public Optional<TestStepResult> getLastTestStepResult(String testStepName) {
-        return Lists.reverse(results).stream().filter(result -> result.getTestStepName().equalsIgnoreCase(testStepName)).findAny();
+        List<TestStepResult> namedResults = getResultsNamed(testStepName);
+        return namedResults.isEmpty() ? Optional.empty() : Optional.of(namedResults.get(namedResults.size() - 1));
     }
 
     @Override
@@ -76,24 +80,15 @@ public abstract class AbstractRecipeExecutionResult implements RecipeExecutionRe
 
     @Override
     public List<TestStepResult> getFailedTestStepsResults() {
-        List<TestStepResult> result = new ArrayList<>();
-
-        for (TestStepResult testStepResultReport : results) {
-            if (testStepResultReport.getAssertionStatus() == TestStepResultReport.AssertionStatusEnum.FAILED) {
-                result.add(testStepResultReport);
-            }
-        }
-
-        return result;
+        return new ArrayList<>(getFailedResults());
     }
 
     @Override
     public List<TestStepResult> getFailedTestStepsResults(String testStepName) {
         List<TestStepResult> result = new ArrayList<>();
 
-        for (TestStepResult testStepResultReport : results) {
-            if (testStepResultReport.getAssertionStatus() == TestStepResultReport.AssertionStatusEnum.FAILED &&
-                    testStepResultReport.getTestStepName().equalsIgnoreCase(testStepName)) {
+        for (TestStepResult testStepResultReport : getResultsNamed(testStepName)) {
+            if (isFailed(testStepResultReport)) {
                 result.add(testStepResultReport);
             }
         }
@@ -103,20 +98,50 @@ public abstract class AbstractRecipeExecutionResult implements RecipeExecutionRe
 
     @Override
     public List<TestStepResult> getTestStepResults(String testStepName) {
-        List<TestStepResult> result = new ArrayList<>();
+        return new ArrayList<>(getResultsNamed(testStepName));
+    }
 
-        for (TestStepResult testStepResultReport : results) {
-            if (testStepResultReport.getTestStepName().equalsIgnoreCase(testStepName)) {
-                result.add(testStepResultReport);
+    @Override
+    public TestStepResult getTestStepResult(int index) {
+        return results.get(index);
+    }
+
+    private List<TestStepResult> getResultsNamed(String testStepName) {
+        if (testStepName == null) {
+            return Collections.emptyList();
+        }
+        Map<String, List<TestStepResult>> index = resultsByName;
+        if (index == null) {
+            // built at most a few times if several threads race, which is cheaper than locking every lookup
+            // ignores case the way String.equalsIgnoreCase does
+            index = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (TestStepResult result : results) {
+                if (result.getTestStepName() != null) {
+                    index.computeIfAbsent(result.getTestStepName(), key -> new ArrayList<>()).add(result);
+                }
             }
+            resultsByName = index;
         }
+        List<TestStepResult> namedResults = index.get(testStepName);
+        return namedResults == null ? Collections.emptyList() : namedResults;
+    }
 
-        return result;
+    private List<TestStepResult> getFailedResults() {
+        List<TestStepResult> failed = failedResults;
+        if (failed == null) {
+            failed = new ArrayList<>();
+            for (TestStepResult result : results) {
+                if (isFailed(result)) {
+                    failed.add(result);
+                }
+            }
+            failedResults = failed;
+        }
+        return failed;
     }
 
-    @Override
-    public TestStepResult getTestStepResult(int index) {
-        return results.get(index);
+    private static boolean isFailed(TestStepResult result) {
+        return result.getAssertionStatus() == TestStepResultReport.AssertionStatusEnum.FAILED;
     }
 
     public interface TestStepResultBuilder {
@@ -0,0 +1,159 @@
+package com.smartbear.readyapi4j.result;
+
+import com.smartbear.readyapi.client.model.HarContent;
+import com.smartbear.readyapi.client.model.HarEntry;
+import com.smartbear.readyapi.client.model.HarPostData;
+import com.smartbear.readyapi.client.model.HarRequest;
+import com.smartbear.readyapi.client.model.HarResponse;
+import com.smartbear.readyapi.client.model.TestStepResultReport;
+
+/**
+ * Controls how much of the HTTP transaction of a test step is returned by {@link TestStepResult#getHarEntry()}: full
+ * bodies, bodies capped at a maximum size or headers only; optionally the HAR entries of successful test steps are
+ * sampled, while failed test steps always have theirs.
+ * <p>
+ * Policies are immutable, all with-methods return a new policy.</p>
+ */
+
+public class HarCapturePolicy {
+    public static final String TRUNCATION_MARKER = "...[truncated %d characters]";
+
+    private static final HarCapturePolicy FULL = new HarCapturePolicy(false, -1, 1);
+
+    private final boolean headersOnly;
+    private final int maxBodySize;
+    private final int successSampleRate;
+
+    private HarCapturePolicy(boolean headersOnly, int maxBodySize, int successSampleRate) {
+        this.headersOnly = headersOnly;
+        this.maxBodySize = maxBodySize;
+        this.successSampleRate = successSampleRate;
+    }
+
+    /**
+     * @return a policy that returns complete HAR entries for all test steps, which is the default
+     */
+    public static HarCapturePolicy full() {
+        return FULL;
+    }
+
+    /**
+     * @return a policy that returns HAR entries without request and response bodies
+     */
+    public static HarCapturePolicy headersOnly() {
+        return new HarCapturePolicy(true, -1, 1);
+    }
+
+    /**
+     * @param maxBodySize the maximum number of characters to keep of each request and response body; longer bodies are
+     *                    cut and end with a truncation marker
+     * @return a policy that returns HAR entries with capped bodies
+     */
+    public static HarCapturePolicy truncated(int maxBodySize) {
+        return FULL.withMaxBodySize(maxBodySize);
+    }
+
+    /**
+     * @param maxBodySize the maximum number of characters to keep of each request and response body
+     */
+    public HarCapturePolicy withMaxBodySize(int maxBodySize) {
+        if (maxBodySize < 0) {
+            throw new IllegalArgumentException("Maximum body size can not be negative: " + maxBodySize);
+        }
+        return new HarCapturePolicy(headersOnly, maxBodySize, successSampleRate);
+    }
+
+    /**
+     * Makes only one in every N successful test steps have a HAR entry; failed test steps always have one
+     *
+     * @param successSampleRate N, 1 to capture all successful test steps
+     */
+    public HarCapturePolicy withSuccessSampleRate(int successSampleRate) {
+        if (successSampleRate < 1) {
+            throw new IllegalArgumentException("Sample rate must be at least 1: " + successSampleRate);
+        }
+        return new HarCapturePolicy(headersOnly, maxBodySize, successSampleRate);
+    }
+
+    public boolean isHeadersOnly() {
+        return headersOnly;
+    }
+
+    /**
+     * @return the maximum number of characters kept of each body, or a negative value if bodies are not capped
+     */
+    public int getMaxBodySize() {
+        return maxBodySize;
+    }
+
+    public int getSuccessSampleRate() {
+        return successSampleRate;
+    }
+
+    /**
+     * Decides whether the specified test step has a HAR entry. The decision only depends on the test step, so asking
+     * again for the same test step gives the same answer.
+     *
+     * @param testStepResultReport the report of the test step
+     * @return true if a HAR entry should be returned for the test step
+     */
+    public boolean isCaptured(TestStepResultReport testStepResultReport) {
+        if (successSampleRate == 1 ||
+                testStepResultReport.getAssertionStatus() == TestStepResultReport.AssertionStatusEnum.FAILED) {
+            return true;
+        }
+        String transactionId = testStepResultReport.getTransactionId();
+        int hash = transactionId != null ? transactionId.hashCode() : System.identityHashCode(testStepResultReport);
+        // spreads consecutive hash codes, like those of sequential transaction ids, over the sample buckets
+        return ((hash * 0x9E3779B9) >>> 1) % successSampleRate == 0;
+    }
+
+    /**
+     * @param body a request or response body
+     * @return the body as it should be captured; null for headers only, or cut to the maximum body size
+     */
+    public String captureBody(String body) {
+        if (headersOnly || body == null) {
+            return null;
+        }
+        if (maxBodySize < 0 || body.length() <= maxBodySize) {
+            return body;
+        }
+        return body.substring(0, maxBodySize) + String.format(TRUNCATION_MARKER, body.length() - maxBodySize);
+    }
+
+    /**
+     * Tells from its length whether a body captured with this policy has been cut, so bodies that happen to end like
+     * the truncation marker are not mistaken for truncated ones
+     *
+     * @param capturedBody a request or response body captured with this policy
+     * @return true if the body was cut to the maximum body size and ends with the truncation marker
+     */
+    public boolean isTruncated(String capturedBody) {
+        // cut bodies are the maximum body size plus the marker, bodies that are not cut are at most the maximum size
+        return !headersOnly && maxBodySize >= 0 && capturedBody != null && capturedBody.length() > maxBodySize;
+    }
+
+    /**
+     * Applies this policy to the bodies of a complete HAR entry, modifying it
+     *
+     * @param harEntry the entry to apply this policy to, may be null
+     * @return the specified entry
+     */
+    public HarEntry apply(HarEntry harEntry) {
+        if (harEntry == null || this == FULL) {
+            return harEntry;
+        }
+        HarRequest request = harEntry.getRequest();
+        if (request != null && request.getPostData() != null) {
+            HarPostData postData = request.getPostData();
+            postData.setText(captureBody(postData.getText()));
+        }
+        HarResponse response = harEntry.getResponse();
+        if (response != null && response.getContent() != null) {
+            HarContent content = response.getContent();
+            content.setText(captureBody(content.getText()));
+        }
+        return harEntry;
+    }
+}
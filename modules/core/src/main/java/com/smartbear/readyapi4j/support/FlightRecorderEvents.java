@@ -0,0 +1,111 @@
+package com.smartbear.readyapi4j.support;
+
+import com.smartbear.readyapi4j.execution.Execution;
+import com.smartbear.readyapi4j.result.RecipeExecutionResult;
+import com.smartbear.readyapi4j.result.TestStepResult;
+
+/**
+ * Emits Java Flight Recorder events for the phases of recipe execution, so that profiles can attribute latency to
+ * recipe serialization, project parsing, HTTP calls, data extraction and listener callbacks. The events are defined in
+ * the optional readyapi4j-jfr module, which requires Java 11; when that module is not on the classpath, the JVM has no
+ * Flight Recorder, or nothing is being recorded, no events are created.
+ */
+public final class FlightRecorderEvents {
+
+    public enum Phase {
+        RECIPE_SERIALIZATION,
+        PROJECT_PARSING,
+        RECIPE_SUBMISSION,
+        RECIPE_EXECUTION,
+        STATUS_POLL,
+        API_CALL,
+        DATA_EXTRACTION,
+        LISTENER_CALLBACK
+    }
+
+    /**
+     * A phase that is being timed; closing it ends the phase and commits its event
+     */
+    public interface Span extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Creates the events; implemented by the readyapi4j-jfr module
+     */
+    public interface EventFactory {
+        Span begin(Phase phase, String recipeName, String executionId, String details);
+
+        boolean isTestStepEventEnabled();
+
+        void testStepFinished(String recipeName, String executionId, String testStepName, long timeTaken);
+    }
+
+    private static final Span NO_SPAN = () -> {
+    };
+    private static final String EVENT_FACTORY_CLASS = "com.smartbear.readyapi4j.jfr.JfrEventFactory";
+
+    private static final EventFactory eventFactory = createEventFactory();
+
+    private FlightRecorderEvents() {
+    }
+
+    /**
+     * @return a span that does nothing when it is closed, for phases that are not recorded
+     */
+    public static Span noSpan() {
+        return NO_SPAN;
+    }
+
+    /**
+     * @param phase       the phase to time
+     * @param recipeName  the name of the recipe, or null if not known
+     * @param executionId the id of the execution, or null if not known
+     * @return the started span, to be closed when the phase ends
+     */
+    public static Span begin(Phase phase, String recipeName, String executionId) {
+        return begin(phase, recipeName, executionId, null);
+    }
+
+    /**
+     * @param phase       the phase to time
+     * @param recipeName  the name of the recipe, or null if not known
+     * @param executionId the id of the execution, or null if not known
+     * @param details     additional information about the phase, like the method and path of an HTTP call
+     * @return the started span, to be closed when the phase ends
+     */
+    public static Span begin(Phase phase, String recipeName, String executionId, String details) {
+        return eventFactory == null ? NO_SPAN : eventFactory.begin(phase, recipeName, executionId, details);
+    }
+
+    /**
+     * Emits an event for each TestStep result of the specified execution, with the time taken reported by the step
+     *
+     * @param recipeName the name of the recipe, or null if not known
+     * @param execution  the finished execution
+     */
+    public static void testStepsFinished(String recipeName, Execution execution) {
+        if (eventFactory == null || !eventFactory.isTestStepEventEnabled()) {
+            return;
+        }
+        RecipeExecutionResult executionResult = execution.getExecutionResult();
+        if (executionResult == null) {
+            return;
+        }
+        for (TestStepResult testStepResult : executionResult.getTestStepResults()) {
+            Long timeTaken = testStepResult.getTimeTaken();
+            eventFactory.testStepFinished(recipeName, execution.getId(), testStepResult.getTestStepName(),
+                    timeTaken == null ? 0 : timeTaken);
+        }
+    }
+
+    private static EventFactory createEventFactory() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return (EventFactory) Class.forName(EVENT_FACTORY_CLASS).getDeclaredConstructor().newInstance();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+}
@@ -432,4 +432,22 @@ public class RestRequestStepRecipeTest {
             }
         });
     }
+
+    @Test
+    public void keepsClientSideExtractorsOutOfTheRecipe() {
+        TestRecipe recipe = newTestRecipe(
+                    POST(URI)
+                            .named("RestRequest")
+                        .withExtractors(
+                                fromResponse("$[0].Endpoint", property -> { }),
+                                fromProperty("Endpoint", property -> { })))
+                .withClientSideExtraction()
+                .buildTestRecipe();
+
+        // only the property extractor still needs a property transfer
+        assertThat(recipe.getTestCase().getTestSteps().size(), is(2));
+        assertThat(recipe.getTestCase().getProperties().size(), is(2));
+        assertThat(recipe.getExtractorData().getClientSideExtractors().size(), is(1));
+        assertThat(recipe.getExtractorData().getClientSideExtractors().get(0).getTestStepName(), is("RestRequest"));
+    }
 }
@@ -0,0 +1,143 @@
+package com.smartbear.readyapi4j.execution;
+
+import com.smartbear.readyapi.client.model.TestCase;
+import com.smartbear.readyapi4j.ExecutionListener;
+import com.smartbear.readyapi4j.TestRecipe;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ListeningSubmissionTest {
+    private final TestRecipe recipe = new TestRecipe(new TestCase());
+
+    @Test
+    public void completesFutureWhenSubmittedExecutionFinishes() throws Exception {
+        ListeningExecutor executor = new ListeningExecutor(false);
+
+        CompletableFuture<Execution> future = executor.submitRecipeAsync(recipe);
+        assertThat(future.isDone(), is(false));
+
+        executor.finish(mockExecution("other"));
+        assertThat(future.isDone(), is(false));
+
+        Execution execution = executor.submitted;
+        executor.finish(execution);
+        assertThat(future.get(), is(sameInstance(execution)));
+        assertThat(executor.listeners.isEmpty(), is(true));
+    }
+
+    @Test
+    public void completesFutureWhenExecutionFinishesBeforeSubmitReturns() throws Exception {
+        ListeningExecutor executor = new ListeningExecutor(true);
+
+        CompletableFuture<Execution> future = executor.submitRecipeAsync(recipe);
+
+        assertThat(future.get(), is(sameInstance(executor.submitted)));
+        assertThat(executor.listeners.isEmpty(), is(true));
+    }
+
+    @Test
+    public void failsFutureWhenSubmitFails() throws Exception {
+        RecipeExecutionException exception = new RecipeExecutionException("Failed to submit Test recipe");
+        ListeningExecutor executor = new ListeningExecutor(false) {
+            @Override
+            public Execution submitRecipe(TestRecipe recipe) {
+                throw exception;
+            }
+        };
+
+        try {
+            executor.submitRecipeAsync(recipe).get();
+            fail("Expected submission to fail");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(sameInstance(exception)));
+        }
+        assertThat(executor.listeners.isEmpty(), is(true));
+    }
+
+    @Test
+    public void cancelsExecutionWhenFutureIsCancelled() {
+        ListeningExecutor executor = new ListeningExecutor(false);
+
+        executor.submitRecipeAsync(recipe).cancel(false);
+
+        verify(executor.submitted).cancelExecution();
+        assertThat(executor.listeners.isEmpty(), is(true));
+    }
+
+    private static Execution mockExecution(String id) {
+        Execution execution = mock(Execution.class);
+        when(execution.getId()).thenReturn(id);
+        return execution;
+    }
+
+    private static class ListeningExecutor implements RecipeExecutor {
+        private final List<ExecutionListener> listeners = new CopyOnWriteArrayList<>();
+        private final boolean finishesDuringSubmit;
+        private Execution submitted;
+
+        ListeningExecutor(boolean finishesDuringSubmit) {
+            this.finishesDuringSubmit = finishesDuringSubmit;
+        }
+
+        void finish(Execution execution) {
+            for (ExecutionListener listener : listeners) {
+                listener.executionFinished(execution);
+            }
+        }
+
+        @Override
+        public Execution submitRecipe(TestRecipe recipe) {
+            submitted = mockExecution("submitted");
+            if (finishesDuringSubmit) {
+                finish(submitted);
+            }
+            return submitted;
+        }
+
+        @Override
+        public Execution executeRecipe(TestRecipe recipe) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Execution> getExecutions() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void addExecutionListener(ExecutionListener listener) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public void removeExecutionListener(ExecutionListener listener) {
+            listeners.remove(listener);
+        }
+
+        @Override
+        public void addRecipeFilter(RecipeFilter recipeFilter) {
+        }
+
+        @Override
+        public void removeRecipeFilter(RecipeFilter recipeFilter) {
+        }
+
+        @Override
+        public ExecutionMode getExecutionMode() {
+            return ExecutionMode.LOCAL;
+        }
+    }
+}
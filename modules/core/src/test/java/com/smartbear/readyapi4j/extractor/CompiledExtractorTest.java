@@ -0,0 +1,76 @@
+package com.smartbear.readyapi4j.extractor;
+
+import com.smartbear.readyapi4j.teststeps.propertytransfer.PathLanguage;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.smartbear.readyapi4j.extractor.Extractors.fromProperty;
+import static com.smartbear.readyapi4j.extractor.Extractors.fromResponse;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class CompiledExtractorTest {
+    private static final String JSON_RESPONSE = "{ \"items\": [ { \"name\": \"first\", \"tags\": [\"a\", \"b\"] } ], " +
+            "\"odd/key\": 42 }";
+
+    @Test
+    public void evaluatesJsonPathAsJsonPointer() throws Exception {
+        assertThat(compile(fromResponse("$.items[0].name", value -> { })).evaluate(JSON_RESPONSE), is("first"));
+        assertThat(compile(fromResponse("$['items'][0]['tags']", value -> { })).evaluate(JSON_RESPONSE),
+                is("[\"a\",\"b\"]"));
+        assertThat(compile(fromResponse("$['odd/key']", value -> { })).evaluate(JSON_RESPONSE), is("42"));
+        assertThat(compile(fromResponse("$.items[1].name", value -> { })).evaluate(JSON_RESPONSE), is(nullValue()));
+    }
+
+    @Test
+    public void evaluatesXPathOnResponses() throws Exception {
+        CompiledExtractor extractor = compile(xPathOnResponse("//item[2]/@name"));
+
+        assertThat(extractor.evaluate("<items><item name=\"first\"/><item name=\"second\"/></items>"), is("second"));
+    }
+
+    @Test
+    public void evaluatesXPathWithDeclaredNamespaces() throws Exception {
+        CompiledExtractor extractor = compile(xPathOnResponse(
+                "declare namespace s='http://schemas.xmlsoap.org/soap/envelope/'; declare namespace ns=\"urn:items\";" +
+                        "//s:Body/ns:item/ns:name"));
+
+        assertThat(extractor.evaluate("<s:Envelope xmlns:s=\"http://schemas.xmlsoap.org/soap/envelope/\"><s:Body>" +
+                "<item xmlns=\"urn:items\"><name>first</name></item></s:Body></s:Envelope>"), is("first"));
+    }
+
+    @Test
+    public void passesExtractedValueToOperator() throws Exception {
+        List<String> values = new ArrayList<>();
+
+        compile(fromResponse("$.items[0].name", values::add)).extract(JSON_RESPONSE);
+
+        assertThat(values.size(), is(1));
+        assertThat(values.get(0), is("first"));
+    }
+
+    @Test
+    public void leavesUnsupportedExtractorsToPropertyTransfers() {
+        assertThat(compile(fromResponse("$.items[*].name", value -> { })), is(nullValue()));
+        assertThat(compile(fromResponse("$..name", value -> { })), is(nullValue()));
+        assertThat(compile(fromResponse("$.items[?(@.name == 'first')]", value -> { })), is(nullValue()));
+        assertThat(compile(fromProperty("Endpoint", value -> { })), is(nullValue()));
+        assertThat(compile(fromResponse("//item[2]/@name", value -> { })), is(nullValue()));
+        assertThat(compile(xPathOnResponse("//item[")), is(nullValue()));
+        assertThat(compile(xPathOnResponse("declare default element namespace 'urn:items'; //item")), is(nullValue()));
+    }
+
+    private Extractor xPathOnResponse(String path) {
+        Extractor extractor = new Extractor("Response", path, value -> { });
+        extractor.setPathLanguage(PathLanguage.XPath);
+        return extractor;
+    }
+
+    private CompiledExtractor compile(Extractor extractor) {
+        extractor.setSource("Request");
+        return CompiledExtractor.compile(extractor);
+    }
+}
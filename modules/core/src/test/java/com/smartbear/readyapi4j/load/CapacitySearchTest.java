@@ -0,0 +1,90 @@
+package com.smartbear.readyapi4j.load;
+
+import com.smartbear.readyapi.client.model.ProjectResultReport;
+import com.smartbear.readyapi.client.model.TestCase;
+import com.smartbear.readyapi4j.TestRecipe;
+import com.smartbear.readyapi4j.execution.Execution;
+import com.smartbear.readyapi4j.execution.RecipeExecutor;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CapacitySearchTest {
+    private static final int CAPACITY = 4;
+
+    private final RecipeExecutor recipeExecutor = mock(RecipeExecutor.class);
+    private final TestRecipe recipe = new TestRecipe(new TestCase());
+
+    @Before
+    public void setUp() {
+        Execution passedExecution = mockExecution(ProjectResultReport.StatusEnum.FINISHED);
+        Execution failedExecution = mockExecution(ProjectResultReport.StatusEnum.FAILED);
+
+        // fails every execution that runs while more than CAPACITY executions are in flight
+        AtomicInteger inFlight = new AtomicInteger();
+        when(recipeExecutor.executeRecipe(any(TestRecipe.class))).thenAnswer(invocation -> {
+            int concurrency = inFlight.incrementAndGet();
+            try {
+                Thread.sleep(5);
+                return concurrency > CAPACITY ? failedExecution : passedExecution;
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    @Test
+    public void findsCapacityWithBinarySearch() {
+        CapacitySearchResult result = newCapacitySearch()
+                .withStrategy(CapacitySearch.Strategy.BINARY_SEARCH)
+                .run(recipe);
+
+        assertThat(result.getMaxSustainablePoint().get().getConcurrency(), is(CAPACITY));
+        assertTrue(result.getMaxSustainableThroughput() > 0);
+    }
+
+    @Test
+    public void findsCapacityWithAimd() {
+        CapacitySearchResult result = newCapacitySearch()
+                .withStrategy(CapacitySearch.Strategy.AIMD)
+                .withAdditiveIncrease(2)
+                .run(recipe);
+
+        assertThat(result.getMaxSustainablePoint().get().getConcurrency(), is(CAPACITY));
+    }
+
+    @Test
+    public void reportsLatencyCurveOrderedByConcurrency() {
+        CapacitySearchResult result = newCapacitySearch().run(recipe);
+
+        int previousConcurrency = 0;
+        for (CapacityPoint point : result.getLatencyCurve()) {
+            assertTrue(point.getConcurrency() > previousConcurrency);
+            assertThat(point.isSlaMet(), is(point.getConcurrency() <= CAPACITY));
+            previousConcurrency = point.getConcurrency();
+        }
+    }
+
+    private CapacitySearch newCapacitySearch() {
+        return new CapacitySearch(recipeExecutor)
+                .withSla(new LatencySla().withMaxFailureRatio(0))
+                .withMaxConcurrency(16)
+                .withStepWarmUp(0, TimeUnit.MILLISECONDS)
+                .withStepDuration(100, TimeUnit.MILLISECONDS);
+    }
+
+    private static Execution mockExecution(ProjectResultReport.StatusEnum status) {
+        Execution execution = mock(Execution.class);
+        when(execution.getCurrentStatus()).thenReturn(status);
+        return execution;
+    }
+}
@@ -0,0 +1,72 @@
+package com.smartbear.readyapi4j.load;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void reportsExactPercentilesForSmallValues() {
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+
+        assertThat(histogram.getCount(), is(100L));
+        assertThat(histogram.getValueAtPercentile(50), is(50L));
+        assertThat(histogram.getValueAtPercentile(99), is(99L));
+        assertThat(histogram.getMax(), is(100L));
+        assertThat(histogram.getMean(), is(50.5));
+    }
+
+    @Test
+    public void keepsRelativeErrorBelowTwoPercentForLargeValues() {
+        for (long value = 100; value <= 10000000; value *= 3) {
+            LatencyHistogram singleValue = new LatencyHistogram();
+            singleValue.record(value);
+            singleValue.record(value * 2);
+
+            long p50 = singleValue.getValueAtPercentile(50);
+            assertTrue("p50 " + p50 + " for " + value, p50 >= value && p50 <= value * 1.02);
+        }
+    }
+
+    @Test
+    public void recordsFromManyThreads() throws Exception {
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                for (int value = 0; value < 10000; value++) {
+                    histogram.record(value % 1000);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(histogram.getCount(), is(80000L));
+        assertThat(histogram.getMax(), is(999L));
+    }
+
+    @Test
+    public void copiesAndResets() {
+        histogram.record(10);
+        LatencyHistogram copy = histogram.copy();
+        histogram.reset();
+        histogram.record(20);
+
+        assertThat(copy.getCount(), is(1L));
+        assertThat(copy.getMax(), is(10L));
+        assertThat(histogram.getCount(), is(1L));
+        assertThat(histogram.getValueAtPercentile(100), is(20L));
+    }
+}
@@ -0,0 +1,88 @@
+package com.smartbear.readyapi4j.load;
+
+import com.smartbear.readyapi.client.model.ProjectResultReport;
+import com.smartbear.readyapi.client.model.TestStepResultReport;
+import com.smartbear.readyapi4j.execution.Execution;
+import com.smartbear.readyapi4j.result.RecipeExecutionResult;
+import com.smartbear.readyapi4j.result.TestStepResult;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class LatencyStatsListenerTest {
+    private final LatencyStatsListener listener = new LatencyStatsListener();
+
+    @Test
+    public void aggregatesStepTimingsOfAllExecutions() {
+        listener.executionFinished(mockExecution(ProjectResultReport.StatusEnum.FINISHED, 30, 10, 20));
+        listener.executionFinished(mockExecution(ProjectResultReport.StatusEnum.FAILED, 50, 30, 20));
+
+        assertThat(listener.getExecutionStatistics().getCount(), is(2L));
+        assertThat(listener.getExecutionStatistics().getFailureCount(), is(1L));
+        assertThat(listener.getExecutionStatistics().getMax(), is(50L));
+        assertThat(listener.getStepStatistics("step0").getMax(), is(30L));
+        assertThat(listener.getStepStatistics("step1").getP50(), is(20L));
+        assertThat(listener.getStepStatistics().size(), is(2));
+    }
+
+    @Test
+    public void recordsFromManyThreads() throws Exception {
+        Execution execution = mockExecution(ProjectResultReport.StatusEnum.FINISHED, 10, 5);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    listener.executionFinished(execution);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(listener.getExecutionStatistics().getCount(), is(80000L));
+        assertThat(listener.getStepStatistics("step0").getCount(), is(80000L));
+    }
+
+    @Test
+    public void startsFromScratchAfterReset() {
+        listener.executionFinished(mockExecution(ProjectResultReport.StatusEnum.FINISHED, 30, 10));
+
+        LoadTestResult snapshot = listener.getSnapshotAndReset();
+
+        assertThat(snapshot.getRecipeStatistics().getCount(), is(1L));
+        assertThat(snapshot.getStepStatistics("step0").getCount(), is(1L));
+        assertThat(listener.getExecutionStatistics().getCount(), is(0L));
+        assertThat(listener.getStepStatistics("step0"), is(nullValue()));
+    }
+
+    private static Execution mockExecution(ProjectResultReport.StatusEnum status, long timeTaken, long... stepTimes) {
+        List<TestStepResult> testStepResults = new ArrayList<>();
+        for (int i = 0; i < stepTimes.length; i++) {
+            TestStepResult testStepResult = mock(TestStepResult.class);
+            when(testStepResult.getTestStepName()).thenReturn("step" + i);
+            when(testStepResult.getTimeTaken()).thenReturn(stepTimes[i]);
+            when(testStepResult.getAssertionStatus()).thenReturn(TestStepResultReport.AssertionStatusEnum.OK);
+            testStepResults.add(testStepResult);
+        }
+
+        RecipeExecutionResult executionResult = mock(RecipeExecutionResult.class);
+        when(executionResult.getTimeTaken()).thenReturn(timeTaken);
+        when(executionResult.getTestStepResults()).thenReturn(testStepResults);
+
+        Execution execution = mock(Execution.class);
+        when(execution.getCurrentStatus()).thenReturn(status);
+        when(execution.getExecutionResult()).thenReturn(executionResult);
+        return execution;
+    }
+}
@@ -0,0 +1,146 @@
+package com.smartbear.readyapi4j.load;
+
+import com.smartbear.readyapi.client.model.ProjectResultReport;
+import com.smartbear.readyapi.client.model.TestCase;
+import com.smartbear.readyapi.client.model.TestStepResultReport;
+import com.smartbear.readyapi4j.TestRecipe;
+import com.smartbear.readyapi4j.execution.Execution;
+import com.smartbear.readyapi4j.execution.RecipeExecutionException;
+import com.smartbear.readyapi4j.execution.RecipeExecutor;
+import com.smartbear.readyapi4j.result.RecipeExecutionResult;
+import com.smartbear.readyapi4j.result.TestStepResult;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LoadRecipeExecutorTest {
+    private static final String STEP_NAME = "GET request";
+
+    private final RecipeExecutor recipeExecutor = mock(RecipeExecutor.class);
+    private final TestRecipe recipe = new TestRecipe(new TestCase());
+    private Execution execution;
+
+    @Before
+    public void setUp() {
+        TestStepResult testStepResult = mock(TestStepResult.class);
+        when(testStepResult.getTestStepName()).thenReturn(STEP_NAME);
+        when(testStepResult.getTimeTaken()).thenReturn(5L);
+        when(testStepResult.getAssertionStatus()).thenReturn(TestStepResultReport.AssertionStatusEnum.OK);
+
+        RecipeExecutionResult executionResult = mock(RecipeExecutionResult.class);
+        when(executionResult.getTestStepResults()).thenReturn(Collections.singletonList(testStepResult));
+
+        execution = mock(Execution.class);
+        when(execution.getCurrentStatus()).thenReturn(ProjectResultReport.StatusEnum.FINISHED);
+        when(execution.getExecutionResult()).thenReturn(executionResult);
+    }
+
+    @Test
+    public void executesConfiguredNumberOfIterations() {
+        when(recipeExecutor.executeRecipe(any(TestRecipe.class))).thenReturn(execution);
+
+        LoadTestResult result = new LoadRecipeExecutor(recipeExecutor)
+                .withVirtualUsers(4)
+                .withIterations(100)
+                .run(recipe);
+
+        assertThat(result.getIterationCount(), is(100L));
+        LatencyStatistics stepStatistics = result.getStepStatistics(STEP_NAME);
+        assertThat(stepStatistics.getCount(), is(100L));
+        assertThat(stepStatistics.getP50(), is(5L));
+        assertThat(stepStatistics.getP99(), is(5L));
+        assertThat(stepStatistics.getMax(), is(5L));
+        assertThat(stepStatistics.getFailureCount(), is(0L));
+    }
+
+    @Test
+    public void runsForConfiguredDurationAfterWarmUp() {
+        when(recipeExecutor.executeRecipe(any(TestRecipe.class))).thenReturn(execution);
+
+        long startTime = System.currentTimeMillis();
+        LoadTestResult result = new LoadRecipeExecutor(recipeExecutor)
+                .withVirtualUsers(2)
+                .withWarmUp(100, TimeUnit.MILLISECONDS)
+                .withDuration(200, TimeUnit.MILLISECONDS)
+                .run(recipe);
+
+        assertTrue(System.currentTimeMillis() - startTime >= 300);
+        assertTrue(result.getElapsedTime() >= 200);
+        assertTrue(result.getIterationCount() > 0);
+        assertTrue(result.getRecipeStatistics().getThroughput() > 0);
+    }
+
+    @Test
+    public void countsFailedExecutions() {
+        AtomicInteger executionCount = new AtomicInteger();
+        when(recipeExecutor.executeRecipe(any(TestRecipe.class))).thenAnswer(invocation -> {
+            if (executionCount.incrementAndGet() % 2 == 0) {
+                throw new RecipeExecutionException("Failed to execute Test recipe");
+            }
+            return execution;
+        });
+
+        LoadTestResult result = new LoadRecipeExecutor(recipeExecutor)
+                .withIterations(10)
+                .run(recipe);
+
+        assertThat(result.getRecipeStatistics().getCount(), is(10L));
+        assertThat(result.getRecipeStatistics().getFailureCount(), is(5L));
+        assertThat(result.getStepStatistics(STEP_NAME).getCount(), is(5L));
+    }
+
+    @Test
+    public void keepsVirtualUsersRunningWhenExecutorThrowsUnexpectedExceptions() {
+        AtomicInteger executionCount = new AtomicInteger();
+        when(recipeExecutor.executeRecipe(any(TestRecipe.class))).thenAnswer(invocation -> {
+            if (executionCount.incrementAndGet() % 2 == 0) {
+                throw new IllegalStateException("Usage limit exceeded");
+            }
+            return execution;
+        });
+
+        LoadTestResult result = new LoadRecipeExecutor(recipeExecutor)
+                .withIterations(10)
+                .run(recipe);
+
+        assertThat(result.getRecipeStatistics().getCount(), is(10L));
+        assertThat(result.getRecipeStatistics().getFailureCount(), is(5L));
+    }
+
+    @Test
+    public void abortsWhenExecutorKeepsFailing() {
+        IllegalStateException failure = new IllegalStateException("Usage limit exceeded");
+        when(recipeExecutor.executeRecipe(any(TestRecipe.class))).thenThrow(failure);
+
+        try {
+            new LoadRecipeExecutor(recipeExecutor)
+                    .withVirtualUsers(2)
+                    .withDuration(1, TimeUnit.MINUTES)
+                    .withMaxConsecutiveFailures(10)
+                    .run(recipe);
+            fail("Expected load test to be aborted");
+        } catch (RecipeExecutionException e) {
+            assertThat(e.getCause().getCause(), is(sameInstance(failure)));
+        }
+        verify(recipeExecutor, atMost(20)).executeRecipe(recipe);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void requiresDurationOrIterations() {
+        new LoadRecipeExecutor(recipeExecutor).run(recipe);
+    }
+}
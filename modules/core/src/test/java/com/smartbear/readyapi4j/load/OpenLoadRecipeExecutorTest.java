@@ -0,0 +1,121 @@
+package com.smartbear.readyapi4j.load;
+
+import com.smartbear.readyapi.client.model.ProjectResultReport;
+import com.smartbear.readyapi.client.model.TestCase;
+import com.smartbear.readyapi4j.TestRecipe;
+import com.smartbear.readyapi4j.execution.Execution;
+import com.smartbear.readyapi4j.execution.RecipeExecutor;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class OpenLoadRecipeExecutorTest {
+    private final RecipeExecutor recipeExecutor = mock(RecipeExecutor.class);
+    private Execution execution;
+
+    @Before
+    public void setUp() {
+        execution = mock(Execution.class);
+        when(execution.getCurrentStatus()).thenReturn(ProjectResultReport.StatusEnum.FINISHED);
+        when(execution.getExecutionResult()).thenReturn(null);
+        when(recipeExecutor.submitRecipeAsync(any(TestRecipe.class)))
+                .thenReturn(CompletableFuture.completedFuture(execution));
+    }
+
+    @Test
+    public void startsIterationsAtConfiguredRate() {
+        LoadTestResult result = new OpenLoadRecipeExecutor(recipeExecutor)
+                .withArrivalRate(200)
+                .withDuration(500, TimeUnit.MILLISECONDS)
+                .run(newRecipe("recipe"));
+
+        assertThat(result.getIterationCount(), is(100L));
+        assertThat(result.getDroppedIterationCount(), is(0L));
+    }
+
+    @Test
+    public void distributesIterationsAccordingToWeights() {
+        LoadTestResult result = new OpenLoadRecipeExecutor(recipeExecutor)
+                .withArrivalRate(1000)
+                .withDuration(1, TimeUnit.SECONDS)
+                .run(new WorkloadMix()
+                        .withRecipe(newRecipe("browse"), 70)
+                        .withRecipe(newRecipe("checkout"), 30));
+
+        long browseCount = result.getRecipeStatistics("browse").getCount();
+        long checkoutCount = result.getRecipeStatistics("checkout").getCount();
+        assertThat(browseCount + checkoutCount, is(1000L));
+        assertTrue(browseCount > checkoutCount);
+    }
+
+    @Test
+    public void measuresLatencyFromIntendedStartTime() {
+        AtomicBoolean firstIteration = new AtomicBoolean(true);
+        when(recipeExecutor.submitRecipeAsync(any(TestRecipe.class))).thenAnswer(invocation -> {
+            if (firstIteration.getAndSet(false)) {
+                Thread.sleep(100);
+            }
+            return CompletableFuture.completedFuture(execution);
+        });
+
+        LoadTestResult result = new OpenLoadRecipeExecutor(recipeExecutor)
+                .withArrivalRate(100)
+                .withDuration(200, TimeUnit.MILLISECONDS)
+                .run(newRecipe("recipe"));
+
+        assertThat(result.getIterationCount(), is(20L));
+        assertTrue(result.getRecipeStatistics().getMax() >= 80);
+    }
+
+    @Test
+    public void keepsStartingIterationsWhileSubmissionsBlock() {
+        when(recipeExecutor.submitRecipeAsync(any(TestRecipe.class))).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return CompletableFuture.completedFuture(execution);
+        });
+
+        long startTime = System.currentTimeMillis();
+        LoadTestResult result = new OpenLoadRecipeExecutor(recipeExecutor)
+                .withArrivalRate(100)
+                .withDuration(200, TimeUnit.MILLISECONDS)
+                .withSubmissionThreads(20)
+                .run(newRecipe("recipe"));
+
+        // submitting the 20 iterations one after the other would take 2 seconds
+        assertThat(result.getIterationCount(), is(20L));
+        assertTrue(System.currentTimeMillis() - startTime < 1000);
+    }
+
+    @Test
+    public void rampsArrivalRate() {
+        ArrivalRateProfile ramp = ArrivalRateProfile.ramp(10, 110, 1, TimeUnit.SECONDS);
+
+        assertThat(ramp.getRate(0), is(10.0));
+        assertThat(ramp.getRate(500), is(60.0));
+        assertThat(ramp.getRate(2000), is(110.0));
+        assertThat(ArrivalRateProfile.steps(10, 5, 1, TimeUnit.SECONDS).getRate(2500), is(20.0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsStepsShorterThanOneMillisecond() {
+        ArrivalRateProfile.steps(10, 5, 500, TimeUnit.MICROSECONDS);
+    }
+
+    private static TestRecipe newRecipe(String name) {
+        TestCase testCase = new TestCase();
+        testCase.setName(name);
+        testCase.setTestSteps(Collections.emptyList());
+        return new TestRecipe(testCase);
+    }
+}
@@ -0,0 +1,89 @@
+package com.smartbear.readyapi4j.result;
+
+import com.smartbear.readyapi.client.model.HarEntry;
+import com.smartbear.readyapi.client.model.ProjectResultReport;
+import com.smartbear.readyapi.client.model.TestCaseResultReport;
+import com.smartbear.readyapi.client.model.TestStepResultReport;
+import com.smartbear.readyapi.client.model.TestSuiteResultReport;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class AbstractRecipeExecutionResultTest {
+    private RecipeExecutionResult result;
+
+    @Before
+    public void setUp() {
+        List<TestStepResultReport> testStepResultReports = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            testStepResultReports.add(makeReport("Request", i, TestStepResultReport.AssertionStatusEnum.OK));
+            testStepResultReports.add(makeReport("Script", i, i == 1 ?
+                    TestStepResultReport.AssertionStatusEnum.FAILED : TestStepResultReport.AssertionStatusEnum.OK));
+        }
+        result = newResult(testStepResultReports);
+    }
+
+    @Test
+    public void findsResultsByNameIgnoringCase() {
+        assertThat(result.getTestStepResults("request").size(), is(3));
+        assertThat(result.getFirstTestStepResult("SCRIPT").get().getTransactionId(), is("Script-0"));
+        assertThat(result.getLastTestStepResult("Script").get().getTransactionId(), is("Script-2"));
+        assertThat(result.getFirstTestStepResult("Missing").isPresent(), is(false));
+        assertThat(result.getTestStepResults("Missing").isEmpty(), is(true));
+    }
+
+    @Test
+    public void findsFailedResults() {
+        assertThat(result.getFailedTestStepsResults().size(), is(1));
+        assertThat(result.getFailedTestStepsResults("script").get(0).getTransactionId(), is("Script-1"));
+        assertThat(result.getFailedTestStepsResults("Request").isEmpty(), is(true));
+        assertThat(result.getErrorMessages(), is(Collections.singletonList("Script-1 failed")));
+    }
+
+    @Test
+    public void ignoresCaseLikeEqualsIgnoreCase() {
+        RecipeExecutionResult sharpSResult = newResult(Collections.singletonList(
+                makeReport("Stra\u00dfe", 0, TestStepResultReport.AssertionStatusEnum.OK)));
+
+        assertThat(sharpSResult.getTestStepResults("STRA\u00dfE").size(), is(1));
+        assertThat(sharpSResult.getTestStepResults("STRASSE").isEmpty(), is(true));
+    }
+
+    private static RecipeExecutionResult newResult(List<TestStepResultReport> testStepResultReports) {
+        TestCaseResultReport testCaseResultReport = new TestCaseResultReport();
+        testCaseResultReport.setTestStepResultReports(testStepResultReports);
+        TestSuiteResultReport testSuiteResultReport = new TestSuiteResultReport();
+        testSuiteResultReport.setTestCaseResultReports(Collections.singletonList(testCaseResultReport));
+        ProjectResultReport report = new ProjectResultReport();
+        report.setTestSuiteResultReports(Collections.singletonList(testSuiteResultReport));
+        return new AbstractRecipeExecutionResult(report, SimpleTestStepResult::new) {
+        };
+    }
+
+    private TestStepResultReport makeReport(String name, int iteration, TestStepResultReport.AssertionStatusEnum status) {
+        TestStepResultReport report = new TestStepResultReport();
+        report.setTestStepName(name);
+        report.setTransactionId(name + "-" + iteration);
+        report.setAssertionStatus(status);
+        report.setMessages(status == TestStepResultReport.AssertionStatusEnum.FAILED ?
+                Collections.singletonList(name + "-" + iteration + " failed") : Collections.emptyList());
+        return report;
+    }
+
+    private static class SimpleTestStepResult extends AbstractTestStepResult {
+        SimpleTestStepResult(TestStepResultReport testStepResultReport) {
+            super(testStepResultReport);
+        }
+
+        @Override
+        public HarEntry getHarEntry() {
+            return null;
+        }
+    }
+}
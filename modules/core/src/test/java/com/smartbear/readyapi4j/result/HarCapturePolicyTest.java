@@ -0,0 +1,80 @@
+package com.smartbear.readyapi4j.result;
+
+import com.smartbear.readyapi.client.model.HarContent;
+import com.smartbear.readyapi.client.model.HarEntry;
+import com.smartbear.readyapi.client.model.HarResponse;
+import com.smartbear.readyapi.client.model.TestStepResultReport;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class HarCapturePolicyTest {
+
+    @Test
+    public void keepsBodiesByDefault() {
+        assertThat(HarCapturePolicy.full().captureBody("Hello World"), is("Hello World"));
+    }
+
+    @Test
+    public void truncatesLongBodiesWithMarker() {
+        HarCapturePolicy policy = HarCapturePolicy.truncated(5);
+
+        assertThat(policy.captureBody("Hello"), is("Hello"));
+        assertThat(policy.captureBody("Hello World"), is("Hello...[truncated 6 characters]"));
+    }
+
+    @Test
+    public void recognizesTruncatedBodies() {
+        HarCapturePolicy policy = HarCapturePolicy.truncated(5);
+        assertThat(policy.isTruncated(policy.captureBody("Hello World")), is(true));
+        assertThat(policy.isTruncated(policy.captureBody("Hello")), is(false));
+        assertThat(policy.isTruncated(null), is(false));
+    }
+
+    @Test
+    public void doesNotMistakeBodiesEndingLikeTheMarkerForTruncatedOnes() {
+        String body = "Hello...[truncated 6 characters]";
+
+        assertThat(HarCapturePolicy.full().isTruncated(HarCapturePolicy.full().captureBody(body)), is(false));
+        HarCapturePolicy policy = HarCapturePolicy.truncated(body.length());
+        assertThat(policy.isTruncated(policy.captureBody(body)), is(false));
+    }
+
+    @Test
+    public void removesBodiesFromEntriesWhenCapturingHeadersOnly() {
+        HarEntry harEntry = new HarEntry().response(new HarResponse().content(new HarContent().text("Hello World")));
+
+        HarCapturePolicy.headersOnly().apply(harEntry);
+
+        assertThat(harEntry.getResponse().getContent().getText(), is(nullValue()));
+    }
+
+    @Test
+    public void samplesSuccessfulStepsButAlwaysCapturesFailedSteps() {
+        HarCapturePolicy policy = HarCapturePolicy.full().withSuccessSampleRate(10);
+        int capturedCount = 0;
+        for (int i = 0; i < 1000; i++) {
+            TestStepResultReport report = makeReport("transaction-" + i, TestStepResultReport.AssertionStatusEnum.OK);
+            boolean captured = policy.isCaptured(report);
+            assertThat(policy.isCaptured(report), is(captured));
+            if (captured) {
+                capturedCount++;
+            }
+
+            report.setAssertionStatus(TestStepResultReport.AssertionStatusEnum.FAILED);
+            assertTrue(policy.isCaptured(report));
+        }
+
+        assertTrue("Captured " + capturedCount + " steps", capturedCount > 50 && capturedCount < 150);
+    }
+
+    private TestStepResultReport makeReport(String transactionId, TestStepResultReport.AssertionStatusEnum status) {
+        TestStepResultReport report = new TestStepResultReport();
+        report.setTransactionId(transactionId);
+        report.setAssertionStatus(status);
+        return report;
+    }
+}
@@ -3,10 +3,12 @@ package com.smartbear.readyapi4j.facade.execution;
 import com.smartbear.readyapi4j.ExecutionListener;
 import com.smartbear.readyapi4j.execution.RecipeExecutor;
 import com.smartbear.readyapi4j.execution.RecipeFilter;
+import com.smartbear.readyapi4j.facade.metrics.MicrometerMetrics;
 import com.smartbear.readyapi4j.local.execution.SoapUIRecipeExecutor;
 import com.smartbear.readyapi4j.support.ExecutionLogger;
 import com.smartbear.readyapi4j.support.RecipeLogger;
 import com.smartbear.readyapi4j.testserver.execution.TestServerClient;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,6 +17,7 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Builder class for building a configured RecipeExecutor. The following env/system properties will be used if available:
@@ -38,6 +41,12 @@ public class RecipeExecutorBuilder {
     private String testServerPassword;
     private String testServerEndpoint;
 
+    private boolean warmUpLocalEngine;
+    private boolean warmUpInBackground;
+    private Executor localExecutor;
+    private boolean localVirtualThreads;
+    private MicrometerMetrics metrics;
+
     private List<RecipeFilter> filters = new ArrayList<>();
     private List<ExecutionListener> listeners = new ArrayList<>();
 
@@ -89,27 +98,39 @@ public class RecipeExecutorBuilder {
     }
 
     private RecipeExecutor addFilters(RecipeExecutor executor) {
+        if (metrics != null) {
+            metrics.bindTo(executor);
+        }
+
         for (RecipeFilter filter : filters) {
-            executor.addRecipeFilter(filter);
+            addRecipeFilter(executor, filter);
         }
         for (ExecutionListener listener : listeners) {
-            executor.addExecutionListener(listener);
+            addExecutionListener(executor, listener);
         }
 
         Map<String, String> env = System.getenv();
         String recipeLogFolder = env.getOrDefault(RECIPE_LOG_FOLDER_PROPERTY, System.getProperty(RECIPE_LOG_FOLDER_PROPERTY));
         if (recipeLogFolder != null) {
-            executor.addRecipeFilter(new RecipeLogger(recipeLogFolder));
+            addRecipeFilter(executor, new RecipeLogger(recipeLogFolder));
         }
 
         String executionLogFolder = env.getOrDefault(EXECUTION_LOG_FOLDER_PROPERTY, System.getProperty(EXECUTION_LOG_FOLDER_PROPERTY));
         if (executionLogFolder != null) {
-            executor.addExecutionListener(new ExecutionLogger(executionLogFolder));
+            addExecutionListener(executor, new ExecutionLogger(executionLogFolder));
         }
 
         return executor;
     }
 
+    private void addRecipeFilter(RecipeExecutor executor, RecipeFilter filter) {
+        executor.addRecipeFilter(metrics != null ? metrics.timed(filter) : filter);
+    }
+
+    private void addExecutionListener(RecipeExecutor executor, ExecutionListener listener) {
+        executor.addExecutionListener(metrics != null ? metrics.timed(listener) : listener);
+    }
+
     /**
      * @param testServerEndpoint the remote TestServer endpoint to use when building an executor
      */
@@ -148,11 +169,67 @@ public class RecipeExecutorBuilder {
         return withExecutionListener(new ExecutionLogger(executionLogFolder));
     }
 
+    /**
+     * Makes local executors initialize the SoapUI engine when they are built instead of on the first recipe
+     *
+     * @param inBackground true to warm up in the background, false to block until the engine is initialized
+     * @see SoapUIRecipeExecutor#warmUp()
+     */
+    public RecipeExecutorBuilder withLocalWarmUp(boolean inBackground) {
+        this.warmUpLocalEngine = true;
+        this.warmUpInBackground = inBackground;
+        return this;
+    }
+
+    /**
+     * Publishes metrics about the built executor, and the TestServer calls of remote executors, to the specified
+     * registry; requires micrometer-core on the classpath
+     *
+     * @param meterRegistry the registry to publish metrics to
+     * @see MicrometerMetrics
+     */
+    public RecipeExecutorBuilder withMeterRegistry(MeterRegistry meterRegistry) {
+        this.metrics = new MicrometerMetrics(meterRegistry);
+        return this;
+    }
+
+    /**
+     * @param executor the executor local executors run asynchronously submitted recipes on, instead of SoapUI's
+     *                 internal thread pool
+     * @see SoapUIRecipeExecutor#withAsyncExecutor(Executor)
+     */
+    public RecipeExecutorBuilder withLocalExecutor(Executor executor) {
+        this.localExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Makes local executors run every asynchronously submitted recipe on a virtual thread; requires Java 21 or later
+     *
+     * @see SoapUIRecipeExecutor#withVirtualThreads()
+     */
+    public RecipeExecutorBuilder withLocalVirtualThreads() {
+        this.localVirtualThreads = true;
+        return this;
+    }
+
     /**
      * @return a local RecipeExecutor - ignores any TestServer related configurations
      */
     public RecipeExecutor buildLocal() {
-        RecipeExecutor executor = new SoapUIRecipeExecutor();
+        SoapUIRecipeExecutor executor = new SoapUIRecipeExecutor();
+        if (localVirtualThreads) {
+            executor.withVirtualThreads();
+        } else if (localExecutor != null) {
+            executor.withAsyncExecutor(localExecutor);
+        }
+        if (warmUpLocalEngine) {
+            if (warmUpInBackground) {
+                executor.warmUpInBackground();
+            } else {
+                executor.warmUp();
+            }
+        }
         return addFilters(executor);
     }
 
@@ -177,6 +254,10 @@ public class RecipeExecutorBuilder {
             env.getOrDefault(TESTSERVER_PASSWORD_PROPERTY, System.getProperty(TESTSERVER_PASSWORD_PROPERTY));
 
         testServerClient.setCredentials(user, password);
+        if (metrics != null) {
+            testServerClient.withApiCallListener(metrics.apiCallListener());
+            metrics.bindStatusPoller(testServerClient.getStatusPoller());
+        }
         RecipeExecutor executor = testServerClient.createRecipeExecutor();
         return addFilters(executor);
     }
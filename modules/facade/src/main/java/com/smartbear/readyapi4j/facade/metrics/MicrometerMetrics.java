@@ -0,0 +1,205 @@
+package com.smartbear.readyapi4j.facade.metrics;
+
+import com.smartbear.readyapi.client.model.ProjectResultReport;
+import com.smartbear.readyapi4j.ExecutionListener;
+import com.smartbear.readyapi4j.execution.Execution;
+import com.smartbear.readyapi4j.execution.ExecutionFailedException;
+import com.smartbear.readyapi4j.execution.ExecutionMode;
+import com.smartbear.readyapi4j.execution.RecipeExecutor;
+import com.smartbear.readyapi4j.execution.RecipeFilter;
+import com.smartbear.readyapi4j.result.RecipeExecutionResult;
+import com.smartbear.readyapi4j.result.TestStepResult;
+import com.smartbear.readyapi4j.testserver.execution.ApiCallListener;
+import com.smartbear.readyapi4j.testserver.execution.ExecutionStatusPoller;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Publishes metrics about recipe executions and TestServer calls to a Micrometer MeterRegistry. Requires
+ * micrometer-core on the classpath; usually configured through
+ * {@link com.smartbear.readyapi4j.facade.execution.RecipeExecutorBuilder#withMeterRegistry(MeterRegistry)}.
+ * <p>
+ * Published meters:</p>
+ * <ul>
+ * <li>readyapi4j.recipes.submitted, readyapi4j.recipes.executed, readyapi4j.recipes.failed - counters tagged with
+ * the execution mode</li>
+ * <li>readyapi4j.executions.in.flight - gauge of started asynchronous executions that have not finished</li>
+ * <li>readyapi4j.test.steps - timer tagged with the execution mode and TestStep name</li>
+ * <li>readyapi4j.filters, readyapi4j.listeners - timers tagged with the filter or listener class</li>
+ * <li>readyapi4j.testserver.calls - timer tagged with method, endpoint and status code</li>
+ * <li>readyapi4j.testserver.usage.limit.exceeded - counter of 429 responses</li>
+ * <li>readyapi4j.status.polls.pending, readyapi4j.status.polls - gauge of executions waiting for a status poll and
+ * counter of status requests</li>
+ * </ul>
+ */
+public class MicrometerMetrics {
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "/([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|[0-9]+)(?=/|$)");
+
+    private final MeterRegistry registry;
+    private final Map<String, Set<String>> inFlightExecutions = new ConcurrentHashMap<>();
+
+    public MicrometerMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Adds a filter and a listener to the specified executor that count its recipes, track its in-flight executions
+     * and time the TestSteps of finished executions
+     *
+     * @param executor the executor to instrument
+     * @return the specified executor
+     */
+    public RecipeExecutor bindTo(RecipeExecutor executor) {
+        String mode = executor.getExecutionMode().name();
+        Counter submitted = Counter.builder("readyapi4j.recipes.submitted").tag("mode", mode).register(registry);
+        Counter executed = Counter.builder("readyapi4j.recipes.executed").tag("mode", mode).register(registry);
+        Counter failed = Counter.builder("readyapi4j.recipes.failed").tag("mode", mode).register(registry);
+
+        Set<String> inFlight = inFlightExecutions.computeIfAbsent(mode, key -> {
+            Set<String> executionIds = ConcurrentHashMap.newKeySet();
+            Gauge.builder("readyapi4j.executions.in.flight", executionIds, Set::size).tag("mode", key).register(registry);
+            return executionIds;
+        });
+
+        executor.addRecipeFilter(recipe -> submitted.increment());
+        executor.addExecutionListener(new ExecutionListener() {
+            @Override
+            public void errorOccurred(Exception exception) {
+                failed.increment();
+                // a started execution that fails this way never reaches executionFinished
+                if (exception instanceof ExecutionFailedException) {
+                    Execution execution = ((ExecutionFailedException) exception).getExecution();
+                    if (execution != null) {
+                        inFlight.remove(execution.getId());
+                    }
+                }
+            }
+
+            @Override
+            public void executionStarted(Execution execution) {
+                inFlight.add(execution.getId());
+            }
+
+            @Override
+            public void executionFinished(Execution execution) {
+                inFlight.remove(execution.getId());
+                executed.increment();
+                if (execution.getCurrentStatus() == ProjectResultReport.StatusEnum.FAILED) {
+                    failed.increment();
+                }
+                recordTestSteps(executor.getExecutionMode(), execution.getExecutionResult());
+            }
+        });
+        return executor;
+    }
+
+    private void recordTestSteps(ExecutionMode mode, RecipeExecutionResult executionResult) {
+        if (executionResult == null) {
+            return;
+        }
+        for (TestStepResult testStepResult : executionResult.getTestStepResults()) {
+            if (testStepResult.getTimeTaken() != null) {
+                Timer.builder("readyapi4j.test.steps")
+                        .tag("mode", mode.name())
+                        .tag("step", String.valueOf(testStepResult.getTestStepName()))
+                        .register(registry)
+                        .record(testStepResult.getTimeTaken(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * @param filter the filter to time
+     * @return a filter that records the time taken by the specified filter
+     */
+    public RecipeFilter timed(RecipeFilter filter) {
+        Timer timer = Timer.builder("readyapi4j.filters")
+                .tag("class", filter.getClass().getSimpleName())
+                .register(registry);
+        return recipe -> timer.record(() -> filter.filterRecipe(recipe));
+    }
+
+    /**
+     * @param listener the listener to time
+     * @return a listener that records the time taken by each call to the specified listener
+     */
+    public ExecutionListener timed(ExecutionListener listener) {
+        Timer timer = Timer.builder("readyapi4j.listeners")
+                .tag("class", listener.getClass().getSimpleName())
+                .register(registry);
+        return new ExecutionListener() {
+            @Override
+            public void errorOccurred(Exception exception) {
+                timer.record(() -> listener.errorOccurred(exception));
+            }
+
+            @Override
+            public void executionStarted(Execution execution) {
+                timer.record(() -> listener.executionStarted(execution));
+            }
+
+            @Override
+            public void executionFinished(Execution execution) {
+                timer.record(() -> listener.executionFinished(execution));
+            }
+
+            @Override
+            public void testStepFinished(Execution execution, TestStepResult testStepResult) {
+                timer.record(() -> listener.testStepFinished(execution, testStepResult));
+            }
+        };
+    }
+
+    /**
+     * @return a listener that times TestServer API calls by method, endpoint and status code, and counts responses
+     * telling that the usage limit was exceeded
+     */
+    public ApiCallListener apiCallListener() {
+        Counter usageLimitExceeded = Counter.builder("readyapi4j.testserver.usage.limit.exceeded").register(registry);
+        return (method, path, statusCode, durationNanos) -> {
+            Timer.builder("readyapi4j.testserver.calls")
+                    .tag("method", method)
+                    .tag("endpoint", normalizeEndpoint(path))
+                    .tag("status", String.valueOf(statusCode))
+                    .register(registry)
+                    .record(durationNanos, TimeUnit.NANOSECONDS);
+            if (statusCode == 429) {
+                usageLimitExceeded.increment();
+            }
+        };
+    }
+
+    /**
+     * Publishes the number of executions waiting for a status poll and the number of status requests made by the
+     * specified poller
+     *
+     * @param statusPoller the poller to observe
+     */
+    public void bindStatusPoller(ExecutionStatusPoller statusPoller) {
+        Gauge.builder("readyapi4j.status.polls.pending", statusPoller, ExecutionStatusPoller::getPendingExecutionCount)
+                .register(registry);
+        FunctionCounter.builder("readyapi4j.status.polls", statusPoller, ExecutionStatusPoller::getStatusRequestCount)
+                .register(registry);
+    }
+
+    /**
+     * Replaces execution and transaction ids in the path, to keep the number of endpoint tags bounded
+     */
+    static String normalizeEndpoint(String path) {
+        return ID_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+}
@@ -0,0 +1,144 @@
+package com.smartbear.readyapi4j.facade.metrics;
+
+import com.smartbear.readyapi.client.model.ProjectResultReport;
+import com.smartbear.readyapi.client.model.TestCase;
+import com.smartbear.readyapi4j.ExecutionListener;
+import com.smartbear.readyapi4j.TestRecipe;
+import com.smartbear.readyapi4j.execution.Execution;
+import com.smartbear.readyapi4j.execution.ExecutionFailedException;
+import com.smartbear.readyapi4j.execution.ExecutionMode;
+import com.smartbear.readyapi4j.execution.RecipeExecutor;
+import com.smartbear.readyapi4j.execution.RecipeFilter;
+import com.smartbear.readyapi4j.result.TestStepResult;
+import com.smartbear.readyapi4j.testserver.execution.ApiCallListener;
+import com.smartbear.readyapi4j.testserver.execution.ExecutionStatusPoller;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MicrometerMetricsTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RecipeExecutor executor = mock(RecipeExecutor.class);
+    private RecipeFilter recipeFilter;
+    private ExecutionListener executionListener;
+
+    @Before
+    public void setUp() {
+        when(executor.getExecutionMode()).thenReturn(ExecutionMode.LOCAL);
+        new MicrometerMetrics(registry).bindTo(executor);
+
+        ArgumentCaptor<RecipeFilter> filterCaptor = ArgumentCaptor.forClass(RecipeFilter.class);
+        verify(executor).addRecipeFilter(filterCaptor.capture());
+        recipeFilter = filterCaptor.getValue();
+        ArgumentCaptor<ExecutionListener> listenerCaptor = ArgumentCaptor.forClass(ExecutionListener.class);
+        verify(executor).addExecutionListener(listenerCaptor.capture());
+        executionListener = listenerCaptor.getValue();
+    }
+
+    @Test
+    public void countsSubmittedExecutedAndFailedRecipes() {
+        TestRecipe recipe = new TestRecipe(new TestCase());
+        recipeFilter.filterRecipe(recipe);
+        recipeFilter.filterRecipe(recipe);
+        recipeFilter.filterRecipe(recipe);
+        executionListener.executionFinished(mockExecution("1", ProjectResultReport.StatusEnum.FINISHED));
+        executionListener.executionFinished(mockExecution("2", ProjectResultReport.StatusEnum.FAILED));
+        executionListener.errorOccurred(new Exception());
+
+        assertThat(counterValue("readyapi4j.recipes.submitted"), is(3.0));
+        assertThat(counterValue("readyapi4j.recipes.executed"), is(2.0));
+        assertThat(counterValue("readyapi4j.recipes.failed"), is(2.0));
+    }
+
+    @Test
+    public void tracksInFlightExecutionsUntilTheyFinishOrFail() {
+        Execution finishing = mockExecution("1", ProjectResultReport.StatusEnum.FINISHED);
+        Execution failing = mockExecution("2", ProjectResultReport.StatusEnum.RUNNING);
+        executionListener.executionStarted(finishing);
+        executionListener.executionStarted(failing);
+        assertThat(inFlightExecutions(), is(2.0));
+
+        executionListener.executionFinished(finishing);
+        assertThat(inFlightExecutions(), is(1.0));
+
+        executionListener.errorOccurred(new ExecutionFailedException("Status poller has been shut down", failing));
+        assertThat(inFlightExecutions(), is(0.0));
+    }
+
+    @Test
+    public void normalizesIdsInEndpoints() {
+        assertThat(MicrometerMetrics.normalizeEndpoint("/v1/readyapi/executions/3f2504e0-4f89-11d3-9a0c-0305e82c3301/status"),
+                is("/v1/readyapi/executions/{id}/status"));
+        assertThat(MicrometerMetrics.normalizeEndpoint("/v1/readyapi/executions/42"),
+                is("/v1/readyapi/executions/{id}"));
+        assertThat(MicrometerMetrics.normalizeEndpoint("/v1/readyapi/executions/v42"),
+                is("/v1/readyapi/executions/v42"));
+    }
+
+    @Test
+    public void timesApiCallsAndCountsUsageLimitResponses() {
+        ApiCallListener apiCallListener = new MicrometerMetrics(registry).apiCallListener();
+        apiCallListener.apiCallCompleted("GET", "/v1/readyapi/executions/42/status", 200, 1000);
+        apiCallListener.apiCallCompleted("POST", "/v1/readyapi/executions", 429, 1000);
+        apiCallListener.apiCallCompleted("POST", "/v1/readyapi/executions", 429, 1000);
+
+        assertThat(registry.get("readyapi4j.testserver.calls").tag("endpoint", "/v1/readyapi/executions/{id}/status")
+                .timer().count(), is(1L));
+        assertThat(registry.get("readyapi4j.testserver.calls").tag("status", "429").timer().count(), is(2L));
+        assertThat(registry.get("readyapi4j.testserver.usage.limit.exceeded").counter().count(), is(2.0));
+    }
+
+    @Test
+    public void publishesStatusPollerMetrics() {
+        ExecutionStatusPoller statusPoller = mock(ExecutionStatusPoller.class);
+        when(statusPoller.getPendingExecutionCount()).thenReturn(3);
+        when(statusPoller.getStatusRequestCount()).thenReturn(17L);
+
+        new MicrometerMetrics(registry).bindStatusPoller(statusPoller);
+
+        assertThat(registry.get("readyapi4j.status.polls.pending").gauge().value(), is(3.0));
+        assertThat(registry.get("readyapi4j.status.polls").functionCounter().count(), is(17.0));
+    }
+
+    @Test
+    public void timedListenerForwardsAllCallbacks() {
+        ExecutionListener listener = mock(ExecutionListener.class);
+        Execution execution = mock(Execution.class);
+        TestStepResult testStepResult = mock(TestStepResult.class);
+        Exception exception = new Exception();
+
+        ExecutionListener timedListener = new MicrometerMetrics(registry).timed(listener);
+        timedListener.errorOccurred(exception);
+        timedListener.executionStarted(execution);
+        timedListener.testStepFinished(execution, testStepResult);
+        timedListener.executionFinished(execution);
+
+        verify(listener).errorOccurred(exception);
+        verify(listener).executionStarted(execution);
+        verify(listener).testStepFinished(execution, testStepResult);
+        verify(listener).executionFinished(execution);
+        assertThat(registry.get("readyapi4j.listeners").timer().count(), is(4L));
+    }
+
+    private double counterValue(String name) {
+        return registry.get(name).tag("mode", "LOCAL").counter().count();
+    }
+
+    private double inFlightExecutions() {
+        return registry.get("readyapi4j.executions.in.flight").tag("mode", "LOCAL").gauge().value();
+    }
+
+    private static Execution mockExecution(String id, ProjectResultReport.StatusEnum status) {
+        Execution execution = mock(Execution.class);
+        when(execution.getId()).thenReturn(id);
+        when(execution.getCurrentStatus()).thenReturn(status);
+        return execution;
+    }
+}
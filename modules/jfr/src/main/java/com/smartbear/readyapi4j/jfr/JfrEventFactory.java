@@ -0,0 +1,80 @@
+package com.smartbear.readyapi4j.jfr;
+
+import com.smartbear.readyapi4j.support.FlightRecorderEvents;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Creates the Flight Recorder events for {@link FlightRecorderEvents}, which loads this class when it is on the
+ * classpath and the JVM provides jdk.jfr
+ */
+public class JfrEventFactory implements FlightRecorderEvents.EventFactory {
+
+    @Override
+    public FlightRecorderEvents.Span begin(FlightRecorderEvents.Phase phase, String recipeName, String executionId,
+                                           String details) {
+        RecipePhaseEvent event = new RecipePhaseEvent();
+        if (!event.isEnabled()) {
+            return FlightRecorderEvents.noSpan();
+        }
+        event.phase = phase.name();
+        event.recipeName = recipeName;
+        event.executionId = executionId;
+        event.details = details;
+        event.begin();
+        return event::commit;
+    }
+
+    @Override
+    public boolean isTestStepEventEnabled() {
+        return new TestStepEvent().isEnabled();
+    }
+
+    @Override
+    public void testStepFinished(String recipeName, String executionId, String testStepName, long timeTaken) {
+        TestStepEvent event = new TestStepEvent();
+        event.recipeName = recipeName;
+        event.executionId = executionId;
+        event.testStepName = testStepName;
+        event.timeTaken = timeTaken;
+        event.commit();
+    }
+
+    @Name("com.smartbear.readyapi4j.RecipePhase")
+    @Label("Recipe Phase")
+    @Category("readyapi4j")
+    static class RecipePhaseEvent extends Event {
+        @Label("Phase")
+        String phase;
+
+        @Label("Recipe Name")
+        String recipeName;
+
+        @Label("Execution Id")
+        String executionId;
+
+        @Label("Details")
+        String details;
+    }
+
+    @Name("com.smartbear.readyapi4j.TestStep")
+    @Label("Test Step")
+    @Category("readyapi4j")
+    static class TestStepEvent extends Event {
+        @Label("Recipe Name")
+        String recipeName;
+
+        @Label("Execution Id")
+        String executionId;
+
+        @Label("Test Step Name")
+        String testStepName;
+
+        @Label("Time Taken")
+        @Timespan(Timespan.MILLISECONDS)
+        long timeTaken;
+    }
+}
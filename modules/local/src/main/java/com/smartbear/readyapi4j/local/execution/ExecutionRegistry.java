@@ -0,0 +1,107 @@
+package com.smartbear.readyapi4j.local.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread-safe registry of the executions started by a SoapUIRecipeExecutor. Running executions are always kept;
+ * finished executions are evicted oldest first when there are more than the configured maximum or when they have
+ * been finished for longer than the configured retention time. Evicted and released executions release their
+ * retained message exchanges.
+ */
+
+class ExecutionRegistry {
+    static final int DEFAULT_MAX_FINISHED_EXECUTIONS = 1000;
+
+    private final Map<String, SoapUIRecipeExecution> executions = new ConcurrentHashMap<>();
+    private final Queue<FinishedExecution> finishedExecutions = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger finishedExecutionCount = new AtomicInteger();
+
+    private volatile int maxFinishedExecutions = DEFAULT_MAX_FINISHED_EXECUTIONS;
+    private volatile long retentionTime = Long.MAX_VALUE;
+
+    void setMaxFinishedExecutions(int maxFinishedExecutions) {
+        this.maxFinishedExecutions = maxFinishedExecutions;
+        evictFinishedExecutions();
+    }
+
+    void setRetentionTime(long retentionTimeMillis) {
+        this.retentionTime = retentionTimeMillis;
+        evictFinishedExecutions();
+    }
+
+    void register(SoapUIRecipeExecution execution) {
+        executions.put(execution.getId(), execution);
+    }
+
+    SoapUIRecipeExecution get(String executionId) {
+        return executions.get(executionId);
+    }
+
+    List<SoapUIRecipeExecution> getExecutions() {
+        evictFinishedExecutions();
+        return new ArrayList<>(executions.values());
+    }
+
+    int size() {
+        return executions.size();
+    }
+
+    void executionFinished(SoapUIRecipeExecution execution) {
+        if (!executions.containsKey(execution.getId())) {
+            // released while it was running
+            return;
+        }
+        finishedExecutions.add(new FinishedExecution(execution.getId(), System.currentTimeMillis()));
+        finishedExecutionCount.incrementAndGet();
+        evictFinishedExecutions();
+    }
+
+    boolean release(String executionId) {
+        SoapUIRecipeExecution execution = executions.remove(executionId);
+        if (execution == null) {
+            return false;
+        }
+        execution.releaseMessageExchanges();
+        // released executions must not count towards the maximum and push out executions that are still held
+        for (FinishedExecution finishedExecution : finishedExecutions) {
+            if (finishedExecution.executionId.equals(executionId)) {
+                if (finishedExecutions.remove(finishedExecution)) {
+                    finishedExecutionCount.decrementAndGet();
+                }
+                break;
+            }
+        }
+        return true;
+    }
+
+    private void evictFinishedExecutions() {
+        long now = System.currentTimeMillis();
+        FinishedExecution oldest;
+        while ((oldest = finishedExecutions.peek()) != null &&
+                (finishedExecutionCount.get() > maxFinishedExecutions || now - oldest.finishTime > retentionTime)) {
+            if (finishedExecutions.remove(oldest)) {
+                finishedExecutionCount.decrementAndGet();
+                SoapUIRecipeExecution execution = executions.remove(oldest.executionId);
+                if (execution != null) {
+                    execution.releaseMessageExchanges();
+                }
+            }
+        }
+    }
+
+    private static class FinishedExecution {
+        private final String executionId;
+        private final long finishTime;
+
+        FinishedExecution(String executionId, long finishTime) {
+            this.executionId = executionId;
+            this.finishTime = finishTime;
+        }
+    }
+}
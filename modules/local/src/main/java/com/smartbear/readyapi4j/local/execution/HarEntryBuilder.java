@@ -10,6 +10,7 @@ import com.smartbear.readyapi.client.model.HarHeader;
 import com.smartbear.readyapi.client.model.HarPostData;
 import com.smartbear.readyapi.client.model.HarRequest;
 import com.smartbear.readyapi.client.model.HarResponse;
+import com.smartbear.readyapi4j.result.HarCapturePolicy;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
@@ -18,6 +19,18 @@ import java.util.Map;
 import java.util.Optional;
 
 public class HarEntryBuilder {
+    private final HarCapturePolicy capturePolicy;
+
+    public HarEntryBuilder() {
+        this(HarCapturePolicy.full());
+    }
+
+    /**
+     * @param capturePolicy decides how much of the request and response bodies is copied into created entries
+     */
+    public HarEntryBuilder(HarCapturePolicy capturePolicy) {
+        this.capturePolicy = capturePolicy;
+    }
 
     public HarEntry createHarEntry(MessageExchange messageExchange) {
         HarEntry harEntry = new HarEntry()
@@ -72,7 +85,7 @@ public class HarEntryBuilder {
         HarContent harContent = new HarContent()
                 .mimeType(messageExchange.getResponse().getContentType())
                 .size(messageExchange.getResponse().getContentLength())
-                .text(messageExchange.getResponseContent());
+                .text(capturePolicy.captureBody(messageExchange.getResponseContent()));
         StringToStringsMap responseHeaders = messageExchange.getResponseHeaders();
         HarResponse harResponse = new HarResponse()
                 .bodySize(messageExchange.getResponse().getContentLength())
@@ -103,7 +116,7 @@ public class HarEntryBuilder {
         HarPostData harPostData = new HarPostData()
                 .mimeType(request != null ? request.getEncoding() : "");
 
-        return harPostData.text(messageExchange.getRequestContent());
+        return harPostData.text(capturePolicy.captureBody(messageExchange.getRequestContent()));
     }
 
     private List<HarHeader> createHarHeaders(StringToStringsMap headersMap) {
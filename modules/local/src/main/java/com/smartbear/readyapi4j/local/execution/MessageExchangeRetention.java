@@ -0,0 +1,107 @@
+package com.smartbear.readyapi4j.local.execution;
+
+import java.io.File;
+
+/**
+ * Policy for which request/response message exchanges a local execution keeps, so that they can be returned as HAR
+ * entries by its test step results. Exchanges that are not kept are discarded as soon as their test step has
+ * finished, which lets SoapUI release the request and response bodies.
+ * <p>
+ * Optionally exchanges with bodies larger than a spill threshold are written to compressed temporary files instead
+ * of being kept in memory; they are loaded again when {@link SoapUIRecipeExecution.SoapUITestStepResult#getHarEntry()}
+ * is called.</p>
+ *
+ * @see SoapUIRecipeExecutor#withMessageExchangeRetention(MessageExchangeRetention)
+ */
+
+public class MessageExchangeRetention {
+
+    public enum Policy {
+        /**
+         * Keeps the exchanges of all test steps
+         */
+        ALL,
+        /**
+         * Keeps the exchanges of failed test steps only
+         */
+        FAILED_ONLY,
+        /**
+         * Keeps the exchanges of the last N test steps of an execution
+         */
+        LAST_N,
+        /**
+         * Keeps the exchanges of all test steps without their request and response bodies
+         */
+        METADATA_ONLY
+    }
+
+    private final Policy policy;
+    private final int maxRetained;
+    private long spillThreshold = -1;
+    private File spillDirectory;
+
+    private MessageExchangeRetention(Policy policy, int maxRetained) {
+        this.policy = policy;
+        this.maxRetained = maxRetained;
+    }
+
+    public static MessageExchangeRetention all() {
+        return new MessageExchangeRetention(Policy.ALL, Integer.MAX_VALUE);
+    }
+
+    public static MessageExchangeRetention failedOnly() {
+        return new MessageExchangeRetention(Policy.FAILED_ONLY, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maxRetained the number of most recent exchanges to keep per execution
+     */
+    public static MessageExchangeRetention lastN(int maxRetained) {
+        if (maxRetained < 0) {
+            throw new IllegalArgumentException("The number of retained exchanges can not be negative: " + maxRetained);
+        }
+        return new MessageExchangeRetention(Policy.LAST_N, maxRetained);
+    }
+
+    public static MessageExchangeRetention metadataOnly() {
+        return new MessageExchangeRetention(Policy.METADATA_ONLY, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Makes kept exchanges whose request and response bodies together are larger than the specified size spill to
+     * compressed temporary files
+     *
+     * @param spillThreshold the body size in characters above which exchanges are written to disk
+     */
+    public MessageExchangeRetention withSpillThreshold(long spillThreshold) {
+        this.spillThreshold = spillThreshold;
+        return this;
+    }
+
+    /**
+     * @param spillDirectory the directory to write spilled exchanges to, defaults to the system temp directory
+     */
+    public MessageExchangeRetention withSpillDirectory(File spillDirectory) {
+        this.spillDirectory = spillDirectory;
+        return this;
+    }
+
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    public int getMaxRetained() {
+        return maxRetained;
+    }
+
+    /**
+     * @return the body size above which exchanges are spilled to disk, or a negative value if they never are
+     */
+    public long getSpillThreshold() {
+        return spillThreshold;
+    }
+
+    public File getSpillDirectory() {
+        return spillDirectory;
+    }
+}
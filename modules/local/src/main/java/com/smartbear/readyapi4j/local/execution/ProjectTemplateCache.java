@@ -0,0 +1,169 @@
+package com.smartbear.readyapi4j.local.execution;
+
+import com.eviware.soapui.impl.wsdl.WsdlProject;
+import com.eviware.soapui.model.testsuite.TestCase;
+import com.smartbear.readyapi4j.extractor.ExtractorData;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LRU cache of SoapUI project templates, keyed by a hash of the structure of the TestCase they were parsed from. Test
+ * case property values are not part of the key, so recipes that only differ in their properties share a template.
+ * <p>
+ * Templates are in-memory snapshots of a project that is never run; every execution gets its own copy of the
+ * template with its property values bound, so recipes are neither converted nor parsed again.</p>
+ * <p>
+ * Recipes with extractors embed the random id of their {@link ExtractorData} in property and transfer names. That id
+ * is replaced by a placeholder in the template key and the snapshot, and the id of each recipe is bound again when
+ * the template is copied, so these recipes share templates as well.</p>
+ *
+ * @see SoapUIRecipeExecutor#withProjectTemplateCache(int)
+ */
+
+public class ProjectTemplateCache {
+    static final String EXTRACTOR_DATA_ID_PLACEHOLDER = "readyapi4j-extractor-data-id";
+
+    private final Map<String, byte[]> templates;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param maxSize the maximum number of project templates to keep
+     */
+
+    public ProjectTemplateCache(int maxSize) {
+        templates = new LinkedHashMap<String, byte[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Creates a new project from the template stored for the specified key
+     *
+     * @param key        the structure hash of the TestCase
+     * @param properties the test case properties to bind to the new project
+     * @return the new project, or null if there is no template for the key
+     */
+
+    WsdlProject newProject(String key, Map<String, String> properties) throws Exception {
+        byte[] template;
+        synchronized (templates) {
+            template = templates.get(key);
+        }
+        if (template == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        hits.incrementAndGet();
+        return copyTemplate(template, properties);
+    }
+
+    /**
+     * Stores a snapshot of the specified project as the template for the specified key and returns a copy of it to
+     * run. The specified project must not be run, it is only used as the source of the template.
+     */
+
+    WsdlProject putTemplate(String key, WsdlProject templateProject, Map<String, String> properties) throws Exception {
+        byte[] template = createSnapshot(templateProject, getExtractorDataId(properties));
+        synchronized (templates) {
+            templates.put(key, template);
+        }
+        return copyTemplate(template, properties);
+    }
+
+    /**
+     * @return the number of executions that used a cached template
+     */
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of executions that had to parse their recipe
+     */
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * @return the number of cached templates
+     */
+
+    public int size() {
+        synchronized (templates) {
+            return templates.size();
+        }
+    }
+
+    /**
+     * Removes all cached templates
+     */
+
+    public void clear() {
+        synchronized (templates) {
+            templates.clear();
+        }
+    }
+
+    /**
+     * @return the id of the ExtractorData of the recipe with the specified test case properties, or null if the recipe
+     * has no extractors
+     */
+
+    static String getExtractorDataId(Map<String, String> properties) {
+        return properties == null ? null : properties.get(ExtractorData.EXTRACTOR_DATA_KEY);
+    }
+
+    /**
+     * Replaces the specified extractor data id with the placeholder that templates are stored with
+     */
+
+    static String normalizeExtractorDataId(String text, String extractorDataId) {
+        return extractorDataId == null ? text : text.replace(extractorDataId, EXTRACTOR_DATA_ID_PLACEHOLDER);
+    }
+
+    private static WsdlProject copyTemplate(byte[] template, Map<String, String> properties) throws Exception {
+        String extractorDataId = getExtractorDataId(properties);
+        if (extractorDataId != null) {
+            template = new String(template, StandardCharsets.UTF_8)
+                    .replace(EXTRACTOR_DATA_ID_PLACEHOLDER, extractorDataId)
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+        WsdlProject project = new WsdlProject(new ByteArrayInputStream(template), null);
+        if (properties != null) {
+            TestCase testCase = project.getTestSuiteAt(0).getTestCaseAt(0);
+            properties.forEach(testCase::setPropertyValue);
+        }
+        return project;
+    }
+
+    private static byte[] createSnapshot(WsdlProject project, String extractorDataId) throws IOException {
+        // SoapUI only saves projects to files; the file is only kept until it has been read
+        File snapshotFile = File.createTempFile("readyapi4j-template-", ".xml");
+        try {
+            project.saveIn(snapshotFile);
+            byte[] snapshot = Files.readAllBytes(snapshotFile.toPath());
+            if (extractorDataId == null) {
+                return snapshot;
+            }
+            // SoapUI saves projects as UTF-8
+            return normalizeExtractorDataId(new String(snapshot, StandardCharsets.UTF_8), extractorDataId)
+                    .getBytes(StandardCharsets.UTF_8);
+        } finally {
+            Files.deleteIfExists(snapshotFile.toPath());
+        }
+    }
+}
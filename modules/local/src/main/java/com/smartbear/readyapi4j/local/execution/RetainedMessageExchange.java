@@ -0,0 +1,196 @@
+package com.smartbear.readyapi4j.local.execution;
+
+import com.eviware.soapui.model.iface.MessageExchange;
+import com.eviware.soapui.model.testsuite.MessageExchangeTestStepResult;
+import com.eviware.soapui.model.testsuite.TestStepResult;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.joda.JodaModule;
+import com.smartbear.readyapi.client.model.HarEntry;
+import com.smartbear.readyapi4j.result.HarCapturePolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The message exchange of a finished test step as kept by a local execution: either the SoapUI exchange itself, a
+ * HAR entry without bodies, or a HAR entry spilled to a compressed temporary file.
+ *
+ * @see MessageExchangeRetention
+ */
+
+class RetainedMessageExchange {
+    private final static Logger LOG = LoggerFactory.getLogger(RetainedMessageExchange.class);
+
+    // spill files that have not been released yet, deleted by a single shutdown hook instead of one deleteOnExit each
+    private static final Set<File> spillFiles = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(RetainedMessageExchange::deleteSpillFiles,
+                "readyapi4j-spill-cleanup"));
+    }
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JodaModule())
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final TestStepResult testStepResult;
+    private volatile MessageExchange[] messageExchanges;
+    private volatile HarEntry harEntry;
+    private volatile File spillFile;
+
+    private RetainedMessageExchange(TestStepResult testStepResult) {
+        this.testStepResult = testStepResult;
+    }
+
+    /**
+     * Captures the exchanges of a finished test step as specified by the retention policy
+     *
+     * @param result    the SoapUI result of the test step
+     * @param retention the retention policy, or null to keep the SoapUI exchanges as they are
+     * @return the retained exchange, or null if the result has no exchanges or the policy does not keep them
+     */
+    static RetainedMessageExchange capture(MessageExchangeTestStepResult result, MessageExchangeRetention retention) {
+        MessageExchange[] messageExchanges = result.getMessageExchanges();
+        if (messageExchanges == null || messageExchanges.length == 0) {
+            return null;
+        }
+
+        RetainedMessageExchange retained = new RetainedMessageExchange(result);
+        if (retention == null) {
+            retained.messageExchanges = messageExchanges;
+            return retained;
+        }
+
+        switch (retention.getPolicy()) {
+            case FAILED_ONLY:
+                if (result.getStatus() != TestStepResult.TestStepStatus.FAILED) {
+                    result.discard();
+                    return null;
+                }
+                break;
+            case LAST_N:
+                if (retention.getMaxRetained() == 0) {
+                    result.discard();
+                    return null;
+                }
+                break;
+            case METADATA_ONLY:
+                retained.harEntry = new HarEntryBuilder(HarCapturePolicy.headersOnly()).createHarEntry(messageExchanges[0]);
+                result.discard();
+                return retained;
+            default:
+                break;
+        }
+
+        long spillThreshold = retention.getSpillThreshold();
+        if (spillThreshold >= 0 && getBodySize(messageExchanges[0]) > spillThreshold) {
+            try {
+                retained.spillFile = spill(new HarEntryBuilder().createHarEntry(messageExchanges[0]),
+                        retention.getSpillDirectory());
+                result.discard();
+                return retained;
+            } catch (IOException e) {
+                LOG.warn("Failed to spill message exchange to disk, keeping it in memory", e);
+            }
+        }
+        retained.messageExchanges = messageExchanges;
+        return retained;
+    }
+
+    /**
+     * @return the SoapUI exchange if it is still kept in memory, null otherwise
+     */
+    MessageExchange getMessageExchange() {
+        MessageExchange[] exchanges = messageExchanges;
+        return exchanges == null ? null : exchanges[0];
+    }
+
+    /**
+     * @param capturePolicy decides how much of the bodies the returned entry contains
+     * @return the HAR entry of the exchange, loading it from disk if it has been spilled, or null if it has been
+     * released
+     */
+    HarEntry getHarEntry(HarCapturePolicy capturePolicy) {
+        MessageExchange[] exchanges = messageExchanges;
+        if (exchanges != null) {
+            return new HarEntryBuilder(capturePolicy).createHarEntry(exchanges[0]);
+        }
+        HarEntry entry = harEntry;
+        if (entry != null) {
+            // only kept without bodies, so there is nothing the policy could modify
+            return entry;
+        }
+        File file = spillFile;
+        if (file != null) {
+            try (InputStream in = new GZIPInputStream(new FileInputStream(file))) {
+                return capturePolicy.apply(OBJECT_MAPPER.readValue(in, HarEntry.class));
+            } catch (IOException e) {
+                LOG.warn("Failed to load spilled message exchange from " + file, e);
+            }
+        }
+        return null;
+    }
+
+    boolean isAvailable() {
+        return messageExchanges != null || harEntry != null || spillFile != null;
+    }
+
+    /**
+     * Drops the exchange, deleting its spill file and letting SoapUI release the bodies
+     */
+    void release() {
+        messageExchanges = null;
+        harEntry = null;
+        File file = spillFile;
+        spillFile = null;
+        if (file != null) {
+            spillFiles.remove(file);
+            if (!file.delete()) {
+                LOG.debug("Failed to delete spilled message exchange " + file);
+            }
+        }
+        testStepResult.discard();
+    }
+
+    private static void deleteSpillFiles() {
+        for (File file : spillFiles) {
+            if (!file.delete()) {
+                LOG.debug("Failed to delete spilled message exchange " + file);
+            }
+        }
+        spillFiles.clear();
+    }
+
+    private static long getBodySize(MessageExchange messageExchange) {
+        String requestContent = messageExchange.getRequestContent();
+        String responseContent = messageExchange.getResponseContent();
+        return (requestContent == null ? 0 : requestContent.length()) +
+                (responseContent == null ? 0 : responseContent.length());
+    }
+
+    private static File spill(HarEntry harEntry, File spillDirectory) throws IOException {
+        File file = File.createTempFile("readyapi4j-exchange-", ".json.gz", spillDirectory);
+        spillFiles.add(file);
+        try (OutputStream out = new GZIPOutputStream(new FileOutputStream(file))) {
+            OBJECT_MAPPER.writeValue(out, harEntry);
+        } catch (IOException e) {
+            spillFiles.remove(file);
+            file.delete();
+            throw e;
+        }
+        return file;
+    }
+}
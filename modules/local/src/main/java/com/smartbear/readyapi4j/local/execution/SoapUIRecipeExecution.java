@@ -4,13 +4,11 @@ import com.eviware.soapui.impl.wsdl.WsdlProject;
 import com.eviware.soapui.impl.wsdl.testcase.WsdlProjectRunner;
 import com.eviware.soapui.model.iface.MessageExchange;
 import com.eviware.soapui.model.testsuite.MessageExchangeTestStepResult;
-import com.eviware.soapui.model.testsuite.TestCase;
 import com.eviware.soapui.model.testsuite.TestCaseRunner;
 import com.eviware.soapui.model.testsuite.TestProperty;
 import com.eviware.soapui.model.testsuite.TestRunner;
 import com.eviware.soapui.model.testsuite.TestStepResult;
 import com.eviware.soapui.model.testsuite.TestSuiteRunner;
-import com.google.common.collect.Maps;
 import com.smartbear.readyapi.client.model.HarEntry;
 import com.smartbear.readyapi.client.model.ProjectResultReport;
 import com.smartbear.readyapi.client.model.TestCaseResultReport;
@@ -20,24 +18,54 @@ import com.smartbear.readyapi4j.execution.Execution;
 import com.smartbear.readyapi4j.execution.RecipeExecutionException;
 import com.smartbear.readyapi4j.result.AbstractRecipeExecutionResult;
 import com.smartbear.readyapi4j.result.AbstractTestStepResult;
+import com.smartbear.readyapi4j.result.HarCapturePolicy;
 import com.smartbear.readyapi4j.result.RecipeExecutionResult;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class SoapUIRecipeExecution implements Execution {
 
-    private Map<TestStepResultReport, MessageExchange[]> messageExchangeMap = Maps.newConcurrentMap();
+    // keyed by identity since step reports are mutable and equal for identical results in data-driven loops
+    private final Map<TestStepResult, TestStepResultReport> testStepResultReports =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+    private final Map<TestStepResultReport, RetainedMessageExchange> messageExchangeMap =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+    private final Deque<RetainedMessageExchange> lastRetainedExchanges = new ArrayDeque<>();
+    private boolean messageExchangesReleased;
     private final String executionId;
     private final WsdlProjectRunner projectRunner;
-    private ProjectResultReport finalReport;
+    private final MessageExchangeRetention retention;
+    private final HarCapturePolicy harCapturePolicy;
+    private final CompletableFuture<Execution> completion = new CompletableFuture<>();
+    private final Map<TestSuiteRunner, TestSuiteReportBuilder> testSuiteReportBuilders = new IdentityHashMap<>();
+    private volatile ProjectResultReport finalReport;
 
     SoapUIRecipeExecution(String executionId, WsdlProjectRunner projectRunner) {
+        this(executionId, projectRunner, null, HarCapturePolicy.full());
+    }
+
+    SoapUIRecipeExecution(String executionId, WsdlProjectRunner projectRunner, MessageExchangeRetention retention,
+                          HarCapturePolicy harCapturePolicy) {
         this.executionId = executionId;
         this.projectRunner = projectRunner;
+        this.retention = retention;
+        this.harCapturePolicy = harCapturePolicy;
+        completion.whenComplete((execution, throwable) -> {
+            if (throwable instanceof CancellationException) {
+                cancelExecution();
+            }
+        });
     }
 
     @Override
@@ -54,8 +82,13 @@ public class SoapUIRecipeExecution implements Execution {
         return (WsdlProject) projectRunner.getProject();
     }
 
+    /**
+     * Builds the report incrementally while the execution is running: the reports of test suites, test cases and
+     * test steps that were already built are reused, and only the results added since the previous call are
+     * converted. Reports returned while running therefore keep growing as more steps finish.
+     */
     @Override
-    public ProjectResultReport getCurrentReport() {
+    public synchronized ProjectResultReport getCurrentReport() {
         if (finalReport != null) {
             return finalReport;
         }
@@ -68,12 +101,16 @@ public class SoapUIRecipeExecution implements Execution {
         List<TestSuiteResultReport> testSuiteResultReports = new ArrayList<>();
         report.setProjectName(projectRunner.getProject().getName());
         for (TestSuiteRunner testSuiteResult : projectRunner.getResults()) {
-            testSuiteResultReports.add(makeTestSuiteResultReport(testSuiteResult));
+            testSuiteResultReports.add(testSuiteReportBuilders
+                    .computeIfAbsent(testSuiteResult, TestSuiteReportBuilder::new)
+                    .update());
         }
         report.setTestSuiteResultReports(testSuiteResultReports);
 
         if (report.getStatus() == ProjectResultReport.StatusEnum.FINISHED) {
             finalReport = report;
+            testSuiteReportBuilders.clear();
+            testStepResultReports.clear();
         }
 
         return report;
@@ -94,32 +131,126 @@ public class SoapUIRecipeExecution implements Execution {
         projectRunner.cancel("Canceled by user");
     }
 
-    private TestSuiteResultReport makeTestSuiteResultReport(TestSuiteRunner runner) {
-        TestSuiteResultReport report = new TestSuiteResultReport();
-        report.setTestSuiteName(runner.getTestSuite().getName());
-        List<TestCaseResultReport> testCaseResultReports = new ArrayList<>();
-        for (TestCaseRunner testCaseResult : runner.getResults()) {
-            testCaseResultReports.add(makeTestCaseResultReport(testCaseResult));
+    /**
+     * @return the policy the HAR entries of this execution are captured with
+     */
+    HarCapturePolicy getHarCapturePolicy() {
+        return harCapturePolicy;
+    }
+
+    /**
+     * @return a future that is completed with this execution when it has finished
+     */
+    CompletableFuture<Execution> getCompletion() {
+        return completion;
+    }
+
+    /**
+     * @param result the SoapUI result of a finished test step
+     * @return the corresponding readyapi4j test step result
+     */
+    SoapUITestStepResult createTestStepResult(TestStepResult result) {
+        return new SoapUITestStepResult(getTestStepResultReport(result), this);
+    }
+
+    /**
+     * @return true if test step results need to be converted as soon as their step has finished, so that message
+     * exchanges that are not retained are discarded right away
+     */
+    boolean hasMessageExchangeRetention() {
+        return retention != null;
+    }
+
+    private TestStepResultReport getTestStepResultReport(TestStepResult result) {
+        synchronized (testStepResultReports) {
+            TestStepResultReport report = testStepResultReports.get(result);
+            if (report == null) {
+                report = makeTestStepResultReport(result);
+                testStepResultReports.put(result, report);
+            }
+            return report;
         }
-        report.setTestCaseResultReports(testCaseResultReports);
-        return report;
     }
 
-    private TestCaseResultReport makeTestCaseResultReport(TestCaseRunner testCaseResult) {
-        TestCaseResultReport report = new TestCaseResultReport();
-        TestCase testCase = testCaseResult.getTestCase();
-        report.setTestCaseName(testCase.getName());
-        Map<String, String> testCaseProperties = new HashMap<>();
-        report.setProperties(testCaseProperties);
-        for (TestProperty testProperty : testCase.getProperties().values()) {
-            testCaseProperties.put(testProperty.getName(), testProperty.getValue());
+    /**
+     * Keeps the report of a test suite and adds the test cases that have been run since the last update
+     */
+    private class TestSuiteReportBuilder {
+        private final TestSuiteRunner runner;
+        private final TestSuiteResultReport report = new TestSuiteResultReport();
+        private final List<TestCaseReportBuilder> testCaseReportBuilders = new ArrayList<>();
+        private final List<TestCaseResultReport> testCaseResultReports = new CopyOnWriteArrayList<>();
+
+        TestSuiteReportBuilder(TestSuiteRunner runner) {
+            this.runner = runner;
+            report.setTestSuiteName(runner.getTestSuite().getName());
+            report.setTestCaseResultReports(testCaseResultReports);
         }
-        List<TestStepResultReport> testStepResultReports = new ArrayList<>();
-        for (TestStepResult stepResult : testCaseResult.getResults()) {
-            testStepResultReports.add(makeTestStepResultReport(stepResult));
+
+        TestSuiteResultReport update() {
+            List<TestCaseRunner> results = runner.getResults();
+            for (int i = testCaseReportBuilders.size(); i < results.size(); i++) {
+                TestCaseReportBuilder testCaseReportBuilder = new TestCaseReportBuilder(results.get(i));
+                testCaseReportBuilders.add(testCaseReportBuilder);
+                testCaseResultReports.add(testCaseReportBuilder.report);
+            }
+            for (TestCaseReportBuilder testCaseReportBuilder : testCaseReportBuilders) {
+                testCaseReportBuilder.update();
+            }
+            return report;
+        }
+    }
+
+    /**
+     * Keeps the report of a test case and converts only the test step results added since the last update. The
+     * test case properties are copied when the test case starts and again once it has finished.
+     */
+    private class TestCaseReportBuilder {
+        private final TestCaseRunner runner;
+        private final TestCaseResultReport report = new TestCaseResultReport();
+        private final List<TestStepResultReport> stepReports = new CopyOnWriteArrayList<>();
+        private boolean finished;
+
+        TestCaseReportBuilder(TestCaseRunner runner) {
+            this.runner = runner;
+            report.setTestCaseName(runner.getTestCase().getName());
+            report.setTestStepResultReports(stepReports);
+            copyProperties();
+        }
+
+        void update() {
+            if (finished) {
+                return;
+            }
+
+            // read the status first, so that no results are missed when the test case finishes meanwhile
+            boolean finishedNow = isFinished(runner.getStatus());
+            List<TestStepResult> results = runner.getResults();
+            if (results.size() > stepReports.size()) {
+                List<TestStepResultReport> newStepReports = new ArrayList<>();
+                for (int i = stepReports.size(); i < results.size(); i++) {
+                    newStepReports.add(getTestStepResultReport(results.get(i)));
+                }
+                stepReports.addAll(newStepReports);
+            }
+
+            if (finishedNow) {
+                copyProperties();
+                finished = true;
+            }
+        }
+
+        private void copyProperties() {
+            Map<String, String> testCaseProperties = new HashMap<>();
+            for (TestProperty testProperty : runner.getTestCase().getProperties().values()) {
+                testCaseProperties.put(testProperty.getName(), testProperty.getValue());
+            }
+            report.setProperties(testCaseProperties);
+        }
+
+        private boolean isFinished(TestRunner.Status status) {
+            return status != TestRunner.Status.INITIALIZED && status != TestRunner.Status.RUNNING;
         }
-        report.setTestStepResultReports(testStepResultReports);
-        return report;
     }
 
     private TestStepResultReport makeTestStepResultReport(TestStepResult result) {
@@ -130,12 +261,56 @@ public class SoapUIRecipeExecution implements Execution {
         report.setTimeTaken(result.getTimeTaken());
 
         if (result instanceof MessageExchangeTestStepResult) {
-            messageExchangeMap.put(report, ((MessageExchangeTestStepResult) result).getMessageExchanges());
+            RetainedMessageExchange retained = RetainedMessageExchange.capture((MessageExchangeTestStepResult) result,
+                    retention);
+            if (retained != null) {
+                boolean kept;
+                synchronized (messageExchangeMap) {
+                    kept = !messageExchangesReleased;
+                    if (kept) {
+                        messageExchangeMap.put(report, retained);
+                    }
+                }
+                if (kept) {
+                    evictOldExchanges(retained);
+                } else {
+                    retained.release();
+                }
+            }
         }
 
         return report;
     }
 
+    /**
+     * Releases all retained message exchanges, deleting the ones spilled to disk, and those of steps that finish
+     * afterwards; called when the execution is evicted or released by its executor
+     */
+    void releaseMessageExchanges() {
+        List<RetainedMessageExchange> retainedExchanges;
+        synchronized (messageExchangeMap) {
+            messageExchangesReleased = true;
+            retainedExchanges = new ArrayList<>(messageExchangeMap.values());
+            messageExchangeMap.clear();
+        }
+        synchronized (lastRetainedExchanges) {
+            lastRetainedExchanges.clear();
+        }
+        retainedExchanges.forEach(RetainedMessageExchange::release);
+    }
+
+    private void evictOldExchanges(RetainedMessageExchange retained) {
+        if (retention == null || retention.getPolicy() != MessageExchangeRetention.Policy.LAST_N) {
+            return;
+        }
+        synchronized (lastRetainedExchanges) {
+            lastRetainedExchanges.add(retained);
+            while (lastRetainedExchanges.size() > retention.getMaxRetained()) {
+                lastRetainedExchanges.remove().release();
+            }
+        }
+    }
+
     private TestStepResultReport.AssertionStatusEnum convertTestStepStatus(TestStepResult.TestStepStatus status) {
         switch (status) {
             case UNKNOWN:
@@ -186,20 +361,30 @@ public class SoapUIRecipeExecution implements Execution {
 
         @Override
         public HarEntry getHarEntry() {
-            if (execution.hasMessageExchange(testStepResultReport)) {
-                return new HarEntryBuilder().createHarEntry(execution.getMessageExchange(testStepResultReport));
+            HarCapturePolicy capturePolicy = execution.harCapturePolicy;
+            if (!capturePolicy.isCaptured(testStepResultReport)) {
+                return null;
             }
-
-            return null;
+            RetainedMessageExchange retained = execution.messageExchangeMap.get(testStepResultReport);
+            return retained == null ? null : retained.getHarEntry(capturePolicy);
         }
     }
 
+    /**
+     * @return the SoapUI exchange of the specified step, or null if it has not been retained in memory
+     * @see MessageExchangeRetention
+     */
     public MessageExchange getMessageExchange(TestStepResultReport testStepResultReport) {
-        return messageExchangeMap.get(testStepResultReport)[0];
+        RetainedMessageExchange retained = messageExchangeMap.get(testStepResultReport);
+        return retained == null ? null : retained.getMessageExchange();
     }
 
+    /**
+     * @return true if a HAR entry is available for the specified step, also if its exchange is only retained as
+     * metadata or has been spilled to disk
+     */
     public boolean hasMessageExchange(TestStepResultReport testStepResultReport) {
-        MessageExchange[] messageExchanges = messageExchangeMap.get(testStepResultReport);
-        return messageExchanges != null && messageExchanges.length > 0;
+        RetainedMessageExchange retained = messageExchangeMap.get(testStepResultReport);
+        return retained != null && retained.isAvailable();
     }
 }
@@ -3,46 +3,95 @@ package com.smartbear.readyapi4j.local.execution;
 import com.eviware.soapui.impl.wsdl.WsdlProject;
 import com.eviware.soapui.impl.wsdl.testcase.WsdlProjectRunner;
 import com.eviware.soapui.model.support.ProjectRunListenerAdapter;
+import com.eviware.soapui.model.support.TestRunListenerAdapter;
 import com.eviware.soapui.model.testsuite.ProjectRunContext;
 import com.eviware.soapui.model.testsuite.ProjectRunner;
+import com.eviware.soapui.model.testsuite.TestCaseRunContext;
+import com.eviware.soapui.model.testsuite.TestCaseRunner;
+import com.eviware.soapui.model.testsuite.TestRunListener;
+import com.eviware.soapui.model.testsuite.TestRunner;
+import com.eviware.soapui.model.testsuite.TestStepResult;
+import com.eviware.soapui.model.testsuite.TestSuite;
 import com.eviware.soapui.support.types.StringToObjectMap;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.Lists;
 import com.smartbear.ready.recipe.JsonRecipeParser;
 import com.smartbear.ready.recipe.teststeps.TestCaseStruct;
 import com.smartbear.readyapi.client.model.ProjectResultReport;
+import com.smartbear.readyapi.client.model.TestCase;
 import com.smartbear.readyapi.client.model.TestStep;
 import com.smartbear.readyapi4j.ExecutionListener;
 import com.smartbear.readyapi4j.TestRecipe;
 import com.smartbear.readyapi4j.execution.DataExtractors;
 import com.smartbear.readyapi4j.execution.Execution;
+import com.smartbear.readyapi4j.execution.ExecutionFailedException;
 import com.smartbear.readyapi4j.execution.ExecutionMode;
 import com.smartbear.readyapi4j.execution.RecipeExecutionException;
 import com.smartbear.readyapi4j.execution.RecipeExecutor;
 import com.smartbear.readyapi4j.execution.RecipeFilter;
 import com.smartbear.readyapi4j.execution.UnsupportedTestStepException;
+import com.smartbear.readyapi4j.result.HarCapturePolicy;
+import com.smartbear.readyapi4j.support.FlightRecorderEvents;
+import com.smartbear.readyapi4j.support.FlightRecorderEvents.Phase;
 import com.smartbear.readyapi4j.teststeps.TestStepTypes;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.util.Arrays;
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import static com.smartbear.readyapi4j.TestRecipeBuilder.newTestRecipe;
+import static com.smartbear.readyapi4j.teststeps.TestSteps.GET;
+
 /**
  * Class that can execute a Test recipe locally, using the SoapUI core classes.
  */
 public class SoapUIRecipeExecutor implements RecipeExecutor {
-    private static final String LOCAL_CLIENT_EXECUTION_ID = "SoapUILocalClient#ExecutionId";
+    private final static Logger LOG = LoggerFactory.getLogger(SoapUIRecipeExecutor.class);
+
+    private static final String WARM_UP_PATH = "/readyapi4j-warm-up";
+    private static final String WARM_UP_RESPONSE = "{\"status\":\"ok\"}";
 
-    private final Map<String, SoapUIRecipeExecution> executionsMap = new HashMap<>();
+    private final ExecutionRegistry executionRegistry = new ExecutionRegistry();
     private final JsonRecipeParser recipeParser = new JsonRecipeParser();
     private final List<ExecutionListener> executionListeners = new CopyOnWriteArrayList<>();
     private final List<RecipeFilter> recipeFilters = new CopyOnWriteArrayList<>();
-    private ObjectMapper objectMapper;
+    private final ObjectMapper objectMapper = createObjectMapper();
+    private final ObjectWriter templateKeyWriter = createObjectMapper()
+            .addMixIn(TestCase.class, TemplateKeyMixin.class)
+            .writer();
+    private volatile ProjectTemplateCache projectTemplateCache;
+    private volatile WsdlCache wsdlCache;
+    private volatile Executor asyncExecutor;
+    private volatile Executor extractionExecutor;
+    private volatile MessageExchangeRetention messageExchangeRetention;
+    private volatile HarCapturePolicy harCapturePolicy = HarCapturePolicy.full();
+    private volatile boolean warmedUp;
 
     @Override
     public Execution submitRecipe(TestRecipe recipe) {
@@ -50,6 +99,18 @@ public class SoapUIRecipeExecutor implements RecipeExecutor {
         return postRecipe(recipe, true);
     }
 
+    @Override
+    public CompletableFuture<Execution> submitRecipeAsync(TestRecipe recipe) {
+        try {
+            applyRecipeFilters(recipe);
+            return postRecipe(recipe, true).getCompletion();
+        } catch (RuntimeException e) {
+            CompletableFuture<Execution> failedExecution = new CompletableFuture<>();
+            failedExecution.completeExceptionally(e);
+            return failedExecution;
+        }
+    }
+
     private void applyRecipeFilters(TestRecipe recipe) {
         recipeFilters.forEach(filter -> filter.filterRecipe(recipe));
     }
@@ -60,9 +121,234 @@ public class SoapUIRecipeExecutor implements RecipeExecutor {
         return postRecipe(recipe, false);
     }
 
+    /**
+     * @return all running executions and the finished executions that have not been evicted or released
+     */
     @Override
     public List<Execution> getExecutions() {
-        return Lists.newArrayList(executionsMap.values());
+        return Lists.newArrayList(executionRegistry.getExecutions());
+    }
+
+    /**
+     * Removes a finished execution from this executor so that it and its SoapUI project can be garbage collected once
+     * the caller no longer references it. The message exchanges it captured are released right away, deleting the ones
+     * spilled to disk, so the HAR entries of its test step results are no longer available.
+     *
+     * @param execution the execution to release
+     * @return true if the execution was held by this executor
+     */
+    public boolean release(Execution execution) {
+        return executionRegistry.release(execution.getId());
+    }
+
+    /**
+     * Sets how many finished executions this executor keeps for {@link #getExecutions()}; the oldest finished
+     * executions are evicted first. Running executions are always kept. Defaults to 1000.
+     *
+     * @param maxRetainedExecutions the maximum number of finished executions to keep
+     */
+    public SoapUIRecipeExecutor withMaxRetainedExecutions(int maxRetainedExecutions) {
+        executionRegistry.setMaxFinishedExecutions(maxRetainedExecutions);
+        return this;
+    }
+
+    /**
+     * Sets how long this executor keeps finished executions for {@link #getExecutions()}. By default finished
+     * executions are only evicted when there are more than the configured maximum.
+     *
+     * @param retentionTime how long to keep finished executions
+     * @param unit          the time unit of the retention time
+     */
+    public SoapUIRecipeExecutor withExecutionRetentionTime(long retentionTime, TimeUnit unit) {
+        executionRegistry.setRetentionTime(unit.toMillis(retentionTime));
+        return this;
+    }
+
+    /**
+     * Enables caching of parsed projects: recipes with the same structure, differing only in the values of their
+     * properties, are parsed once and every further execution runs on a copy of the cached project.
+     *
+     * @param maxSize the maximum number of cached projects, least recently used projects are evicted first
+     */
+    public SoapUIRecipeExecutor withProjectTemplateCache(int maxSize) {
+        projectTemplateCache = new ProjectTemplateCache(maxSize);
+        return this;
+    }
+
+    /**
+     * @return the project template cache, or null if caching has not been enabled
+     */
+    public ProjectTemplateCache getProjectTemplateCache() {
+        return projectTemplateCache;
+    }
+
+    /**
+     * Makes SOAP Request and SOAP Mock Response test steps load their WSDL, and the documents it imports, from the
+     * process-wide {@link WsdlCache#getDefault() WSDL cache} instead of fetching them for every execution.
+     */
+    public SoapUIRecipeExecutor withWsdlCache() {
+        return withWsdlCache(WsdlCache.getDefault());
+    }
+
+    /**
+     * Makes SOAP Request and SOAP Mock Response test steps load their WSDL, and the documents it imports, from the
+     * specified cache instead of fetching them for every execution.
+     *
+     * @param wsdlCache the cache to use, or null to disable caching of WSDLs
+     */
+    public SoapUIRecipeExecutor withWsdlCache(WsdlCache wsdlCache) {
+        this.wsdlCache = wsdlCache;
+        return this;
+    }
+
+    /**
+     * Sets which request/response message exchanges later executions keep for the HAR entries of their test step
+     * results. By default all exchanges are kept in memory for the lifetime of the execution.
+     *
+     * @param messageExchangeRetention the retention policy, or null to keep all exchanges in memory
+     */
+    public SoapUIRecipeExecutor withMessageExchangeRetention(MessageExchangeRetention messageExchangeRetention) {
+        this.messageExchangeRetention = messageExchangeRetention;
+        return this;
+    }
+
+    /**
+     * Sets how much of their HTTP transactions the test step results of later executions return as HAR entries;
+     * by default complete entries are returned for all test steps.
+     *
+     * @param harCapturePolicy the policy to apply
+     */
+    public SoapUIRecipeExecutor withHarCapturePolicy(HarCapturePolicy harCapturePolicy) {
+        this.harCapturePolicy = harCapturePolicy;
+        return this;
+    }
+
+    /**
+     * Runs asynchronously submitted recipes on the specified executor instead of SoapUI's internal thread pool, which
+     * makes it possible to control how many recipes can be in flight at once.
+     *
+     * @param executor the executor to run recipes on, or null to use SoapUI's thread pool
+     */
+    public SoapUIRecipeExecutor withAsyncExecutor(Executor executor) {
+        this.asyncExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Runs the client side extractors of the test steps of a finished execution on the specified executor, concurrently
+     * for different test steps; the thread that finishes the execution waits for them before listeners are notified.
+     *
+     * @param executor the executor to run extractors on, or null to use {@link DataExtractors#defaultExtractionExecutor()}
+     */
+    public SoapUIRecipeExecutor withExtractionExecutor(Executor executor) {
+        this.extractionExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Runs every asynchronously submitted recipe on a virtual thread of its own, so that large numbers of mostly
+     * waiting recipes can be in flight without sizing a thread pool. Requires Java 21 or later at runtime.
+     *
+     * @throws UnsupportedOperationException if virtual threads are not available in this JVM
+     */
+    public SoapUIRecipeExecutor withVirtualThreads() {
+        try {
+            Method factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return withAsyncExecutor((Executor) factoryMethod.invoke(null));
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later", e);
+        }
+    }
+
+    /**
+     * Initializes the SoapUI engine by running a synthetic recipe against an in-process HTTP stub, so that the first
+     * real recipe doesn't pay for class loading, settings and HTTP client setup. The synthetic recipe is not passed to
+     * recipe filters or execution listeners and is not kept by this executor.
+     *
+     * @return the time the warm-up took, in milliseconds
+     */
+    public long warmUp() {
+        long startTime = System.currentTimeMillis();
+        HttpServer stubServer = null;
+        try {
+            stubServer = startWarmUpStub();
+            String stubUrl = createWarmUpStubUrl(stubServer.getAddress());
+            TestRecipe warmUpRecipe = newTestRecipe(
+                    GET(stubUrl)
+                            .assertValidStatusCodes(200)
+                            .assertJsonContent("$.status", "ok")
+            ).buildTestRecipe();
+
+            WsdlProjectRunner projectRunner = new WsdlProjectRunner(parseProject(warmUpRecipe.getTestCase()),
+                    new StringToObjectMap());
+            projectRunner.start(false);
+            if (projectRunner.getStatus() == TestRunner.Status.FAILED) {
+                LOG.warn("Warm-up recipe failed: " + projectRunner.getReason());
+            } else {
+                warmedUp = true;
+            }
+        } catch (Exception e) {
+            LOG.warn("Failed to warm up SoapUI engine", e);
+        } finally {
+            if (stubServer != null) {
+                stubServer.stop(0);
+            }
+        }
+        long warmUpTime = System.currentTimeMillis() - startTime;
+        LOG.debug("Warmed up SoapUI engine in " + warmUpTime + " ms");
+        return warmUpTime;
+    }
+
+    /**
+     * Runs {@link #warmUp()} in the background; recipes can be submitted while the engine is warming up.
+     *
+     * @return a future completed with the time the warm-up took, in milliseconds
+     */
+    public CompletableFuture<Long> warmUpInBackground() {
+        CompletableFuture<Long> warmUpTime = new CompletableFuture<>();
+        // a thread of its own, so the warm-up neither occupies nor waits for a thread of a shared pool
+        Thread warmUpThread = new Thread(() -> {
+            try {
+                warmUpTime.complete(warmUp());
+            } catch (Throwable e) {
+                warmUpTime.completeExceptionally(e);
+            }
+        }, "readyapi4j-warm-up");
+        warmUpThread.setDaemon(true);
+        warmUpThread.start();
+        return warmUpTime;
+    }
+
+    /**
+     * @return true if a warm-up of this executor has run its synthetic recipe successfully
+     */
+    public boolean isWarmedUp() {
+        return warmedUp;
+    }
+
+    /**
+     * Builds the URL from the address the stub is bound to, which need not be the one "localhost" resolves to
+     */
+    private static String createWarmUpStubUrl(InetSocketAddress stubAddress) {
+        String host = stubAddress.getAddress().getHostAddress();
+        if (stubAddress.getAddress() instanceof Inet6Address) {
+            host = "[" + host + "]";
+        }
+        return "http://" + host + ":" + stubAddress.getPort() + WARM_UP_PATH;
+    }
+
+    private static HttpServer startWarmUpStub() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(WARM_UP_PATH, exchange -> {
+            byte[] response = WARM_UP_RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(response);
+            }
+        });
+        server.start();
+        return server;
     }
 
     @Override
@@ -90,7 +376,7 @@ public class SoapUIRecipeExecutor implements RecipeExecutor {
         return ExecutionMode.LOCAL;
     }
 
-    private Execution postRecipe(TestRecipe testRecipe, boolean async) {
+    private SoapUIRecipeExecution postRecipe(TestRecipe testRecipe, boolean async) {
         List<TestStep> proTestSteps = testRecipe.getTestCase().getTestSteps()
                 .stream()
                 .filter(testStep -> testStep.getType().equals(TestStepTypes.DATA_SOURCE.getName()))
@@ -101,60 +387,213 @@ public class SoapUIRecipeExecutor implements RecipeExecutor {
 
         String executionId = UUID.randomUUID().toString();
         try {
-            String jsonText = getObjectMapper().writeValueAsString(testRecipe.getTestCase());
-            TestCaseStruct testCaseStruct = getObjectMapper().readValue(jsonText, TestCaseStruct.class);
-            WsdlProject project = recipeParser.parse(testCaseStruct);
+            WsdlProject project;
+            try (FlightRecorderEvents.Span ignored = FlightRecorderEvents.begin(Phase.PROJECT_PARSING,
+                    testRecipe.getName(), executionId)) {
+                project = createProject(testRecipe.getTestCase());
+            }
             StringToObjectMap properties = new StringToObjectMap();
 
             WsdlProjectRunner projectRunner = new WsdlProjectRunner(project, properties);
-            SoapUIRecipeExecution execution = new SoapUIRecipeExecution(executionId, projectRunner);
+            SoapUIRecipeExecution execution = new SoapUIRecipeExecution(executionId, projectRunner,
+                    messageExchangeRetention, harCapturePolicy);
 
             if (async) {
-                prepareAsyncExecution(testRecipe, execution, projectRunner);
+                prepareAsyncExecution(testRecipe, execution);
             }
+            addTestStepListener(execution);
 
-            executionsMap.put(executionId, execution);
-            projectRunner.start(async);
-            if (!async) {
+            executionRegistry.register(execution);
+            Executor executor = asyncExecutor;
+            if (async && executor != null) {
+                executor.execute(() -> runOnExecutor(projectRunner, execution));
+            } else if (async) {
+                projectRunner.start(true);
+            } else {
+                try (FlightRecorderEvents.Span ignored = FlightRecorderEvents.begin(Phase.RECIPE_EXECUTION,
+                        testRecipe.getName(), executionId)) {
+                    projectRunner.start(false);
+                }
                 notifyExecutionFinished(testRecipe, execution);
             }
             return execution;
         } catch (Exception e) {
+            executionRegistry.release(executionId);
             notifyErrorOccurred(e);
             throw new RecipeExecutionException("Failed to execute Test recipe", e);
         }
     }
 
+    private void runOnExecutor(WsdlProjectRunner projectRunner, SoapUIRecipeExecution execution) {
+        try {
+            projectRunner.start(false);
+        } catch (RuntimeException e) {
+            LOG.error("Failed to run execution " + execution.getId(), e);
+            if (!execution.getCompletion().isDone()) {
+                ExecutionFailedException failure = new ExecutionFailedException(
+                        "Failed to run execution " + execution.getId(), execution, e);
+                notifyErrorOccurred(failure);
+                executionRegistry.executionFinished(execution);
+                execution.getCompletion().completeExceptionally(failure);
+            }
+        }
+    }
+
+    private WsdlProject createProject(TestCase testCase) throws Exception {
+        ProjectTemplateCache templateCache = projectTemplateCache;
+        if (templateCache == null) {
+            return parseProject(testCase);
+        }
+
+        String templateKey = createTemplateKey(testCase);
+        WsdlProject project = templateCache.newProject(templateKey, testCase.getProperties());
+        if (project == null) {
+            // the parsed project only serves as the template, so the one that runs is never saved
+            project = templateCache.putTemplate(templateKey, parseProject(testCase), testCase.getProperties());
+        }
+        return project;
+    }
+
+    private WsdlProject parseProject(TestCase testCase) throws Exception {
+        WsdlCache cache = wsdlCache;
+        TestCaseStruct testCaseStruct;
+        if (cache == null) {
+            // converts through a token buffer instead of an intermediate JSON string
+            testCaseStruct = getObjectMapper().convertValue(testCase, TestCaseStruct.class);
+        } else {
+            ObjectNode testCaseNode = getObjectMapper().valueToTree(testCase);
+            useCachedWsdls(testCaseNode, cache);
+            testCaseStruct = getObjectMapper().treeToValue(testCaseNode, TestCaseStruct.class);
+        }
+        return recipeParser.parse(testCaseStruct);
+    }
+
+    /**
+     * Points the WSDL of all SOAP test steps to their cached copy, leaving the recipe itself untouched
+     */
+    private void useCachedWsdls(ObjectNode testCaseNode, WsdlCache cache) {
+        JsonNode testSteps = testCaseNode.get("testSteps");
+        if (testSteps == null) {
+            return;
+        }
+        for (JsonNode testStep : testSteps) {
+            JsonNode wsdl = testStep.get("wsdl");
+            if (wsdl != null && wsdl.isTextual()) {
+                ((ObjectNode) testStep).put("wsdl", cache.getLocalWsdl(wsdl.asText()));
+            }
+        }
+    }
+
+    /**
+     * Hashes the JSON structure of the TestCase, including the names but not the values of its properties. The JSON
+     * is streamed into the digest, so neither a JSON tree nor a string of the whole recipe is built, except for recipes
+     * with extractors: their extractor data id is replaced by a placeholder, so the key does not depend on it.
+     */
+    private String createTemplateKey(TestCase testCase) throws IOException, NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        String extractorDataId = ProjectTemplateCache.getExtractorDataId(testCase.getProperties());
+        if (extractorDataId == null) {
+            try (OutputStream out = new DigestOutputStream(new DiscardingOutputStream(), digest)) {
+                templateKeyWriter.writeValue(out, testCase);
+            }
+        } else {
+            String json = templateKeyWriter.writeValueAsString(testCase);
+            digest.update(ProjectTemplateCache.normalizeExtractorDataId(json, extractorDataId)
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+        if (testCase.getProperties() != null) {
+            List<String> propertyNames = new ArrayList<>();
+            for (String propertyName : testCase.getProperties().keySet()) {
+                propertyNames.add(ProjectTemplateCache.normalizeExtractorDataId(propertyName, extractorDataId));
+            }
+            Collections.sort(propertyNames);
+            for (String propertyName : propertyNames) {
+                digest.update((byte) 0);
+                digest.update(propertyName.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
     private ObjectMapper getObjectMapper() {
-        if (objectMapper == null) {
-            objectMapper = new ObjectMapper();
-            objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-            objectMapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+        return objectMapper;
+    }
+
+    @JsonIgnoreProperties({"properties"})
+    private static abstract class TemplateKeyMixin {
+    }
+
+    private static class DiscardingOutputStream extends OutputStream {
+        @Override
+        public void write(int b) {
         }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
         return objectMapper;
     }
 
-    private void prepareAsyncExecution(TestRecipe testRecipe, SoapUIRecipeExecution execution, WsdlProjectRunner projectRunner) {
+    private void prepareAsyncExecution(TestRecipe testRecipe, SoapUIRecipeExecution execution) {
         WsdlProject project = execution.getProject();
+        // each execution has its own project, so the listener can refer to the execution directly
         project.addProjectRunListener(new ProjectRunListenerAdapter() {
+            private FlightRecorderEvents.Span executionSpan;
+
             @Override
             public void beforeRun(ProjectRunner projectRunner, ProjectRunContext runContext) {
-                String executionId = (String) runContext.getProperty(LOCAL_CLIENT_EXECUTION_ID);
-                if (executionId != null) {
-                    notifyExecutionStarted(executionsMap.get(executionId));
-                }
+                executionSpan = FlightRecorderEvents.begin(Phase.RECIPE_EXECUTION, testRecipe.getName(),
+                        execution.getId());
+                notifyExecutionStarted(execution);
             }
 
             @Override
             public void afterRun(ProjectRunner projectRunner, ProjectRunContext runContext) {
-                String executionId = (String) runContext.getProperty(LOCAL_CLIENT_EXECUTION_ID);
-                if (executionId != null) {
-                    notifyExecutionFinished(testRecipe, executionsMap.get(executionId));
+                if (executionSpan != null) {
+                    executionSpan.close();
+                }
+                try {
+                    notifyExecutionFinished(testRecipe, execution);
+                } catch (RecipeExecutionException e) {
+                    // the completion of the execution has already failed with the same exception
+                    notifyErrorOccurred(e);
                 }
             }
         });
+    }
 
-        projectRunner.getRunContext().put(LOCAL_CLIENT_EXECUTION_ID, execution.getId());
+    private void addTestStepListener(SoapUIRecipeExecution execution) {
+        TestRunListener testRunListener = new TestRunListenerAdapter() {
+            @Override
+            public void afterStep(TestCaseRunner testRunner, TestCaseRunContext runContext, TestStepResult result) {
+                notifyTestStepFinished(execution, result);
+            }
+        };
+        for (TestSuite testSuite : execution.getProject().getTestSuiteList()) {
+            for (com.eviware.soapui.model.testsuite.TestCase testCase : testSuite.getTestCaseList()) {
+                testCase.addTestRunListener(testRunListener);
+            }
+        }
+    }
+
+    private void notifyTestStepFinished(SoapUIRecipeExecution execution, TestStepResult result) {
+        if (executionListeners.isEmpty() && !execution.hasMessageExchangeRetention()) {
+            return;
+        }
+        try {
+            SoapUIRecipeExecution.SoapUITestStepResult testStepResult = execution.createTestStepResult(result);
+            for (ExecutionListener executionListener : executionListeners) {
+                executionListener.testStepFinished(execution, testStepResult);
+            }
+        } catch (Exception e) {
+            LOG.error("Error while notifying listeners of finished test step", e);
+        }
     }
 
     private void notifyExecutionStarted(Execution execution) {
@@ -169,14 +608,38 @@ public class SoapUIRecipeExecutor implements RecipeExecutor {
         }
     }
 
-    private void notifyExecutionFinished(TestRecipe testRecipe, Execution execution) {
-        ProjectResultReport projectResultReport = execution.getCurrentReport();
-        if (testRecipe.getExtractorData() != null) {
-            DataExtractors.runDataExtractors(projectResultReport, Arrays.asList(testRecipe.getExtractorData()));
-        }
+    private void notifyExecutionFinished(TestRecipe testRecipe, SoapUIRecipeExecution execution) {
+        RecipeExecutionException extractionFailure = null;
+        try {
+            ProjectResultReport projectResultReport = execution.getCurrentReport();
+            if (testRecipe.getExtractorData() != null) {
+                DataExtractors.runDataExtractors(projectResultReport, testRecipe.getExtractorData());
+                try {
+                    DataExtractors.runClientSideExtractors(execution.getExecutionResult(),
+                            testRecipe.getExtractorData(), execution.getHarCapturePolicy(), extractionExecutor);
+                } catch (RecipeExecutionException e) {
+                    extractionFailure = e;
+                }
+            }
 
-        for (ExecutionListener executionListener : executionListeners) {
-            executionListener.executionFinished(execution);
+            FlightRecorderEvents.testStepsFinished(testRecipe.getName(), execution);
+
+            try (FlightRecorderEvents.Span ignored = FlightRecorderEvents.begin(Phase.LISTENER_CALLBACK,
+                    testRecipe.getName(), execution.getId())) {
+                for (ExecutionListener executionListener : executionListeners) {
+                    executionListener.executionFinished(execution);
+                }
+            }
+        } finally {
+            executionRegistry.executionFinished(execution);
+            if (extractionFailure == null) {
+                execution.getCompletion().complete(execution);
+            } else {
+                execution.getCompletion().completeExceptionally(extractionFailure);
+            }
+        }
+        if (extractionFailure != null) {
+            throw extractionFailure;
         }
     }
 }
@@ -0,0 +1,306 @@
+package com.smartbear.readyapi4j.local.execution;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe cache of WSDL documents, including all WSDL and XML Schema documents they import. Each WSDL is fetched
+ * once and stored in a local directory with its import locations rewritten to the local copies, so SoapUI can load it
+ * without going over the network again.
+ * <p>
+ * Concurrent lookups of the same WSDL share a single fetch. Once the documents of a WSDL have been published they are
+ * never modified or deleted while the process runs, since executions may still be loading them; by default they are
+ * stored in a temporary directory that is deleted when the JVM exits. If a persistence directory is specified,
+ * fetched documents are kept there and reused by later processes.</p>
+ *
+ * @see SoapUIRecipeExecutor#withWsdlCache(WsdlCache)
+ */
+
+public class WsdlCache {
+    private final static Logger LOG = LoggerFactory.getLogger(WsdlCache.class);
+
+    public static final int DEFAULT_MAX_SIZE = 100;
+
+    private static final String WSDL_NAMESPACE = "http://schemas.xmlsoap.org/wsdl/";
+    private static final String XML_SCHEMA_NAMESPACE = "http://www.w3.org/2001/XMLSchema";
+    private static final String DEFINITION_FILE_PREFIX = "document-";
+
+    private static WsdlCache defaultCache;
+
+    private final File cacheDirectory;
+    private final boolean persistent;
+    private final Map<String, CompletableFuture<File>> wsdlFiles;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Creates a cache that keeps the fetched documents in a temporary directory
+     *
+     * @param maxSize the maximum number of WSDLs to keep
+     */
+
+    public WsdlCache(int maxSize) throws IOException {
+        this(maxSize, Files.createTempDirectory("readyapi4j-wsdl-cache").toFile(), false);
+    }
+
+    /**
+     * Creates a cache that keeps the fetched documents in the specified directory, also between processes
+     *
+     * @param maxSize              the maximum number of WSDLs to keep in memory
+     * @param persistenceDirectory the directory to store fetched documents in
+     */
+
+    public WsdlCache(int maxSize, File persistenceDirectory) {
+        this(maxSize, persistenceDirectory, true);
+    }
+
+    private WsdlCache(int maxSize, File cacheDirectory, boolean persistent) {
+        this.cacheDirectory = cacheDirectory;
+        this.persistent = persistent;
+        // evicted documents are only forgotten; a running execution may still be reading them
+        wsdlFiles = new LinkedHashMap<String, CompletableFuture<File>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<File>> eldest) {
+                return size() > maxSize;
+            }
+        };
+        if (!persistent) {
+            // the hook must not keep the cache itself reachable
+            File temporaryDirectory = cacheDirectory;
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> deleteDirectoryTree(temporaryDirectory),
+                    "readyapi4j-wsdl-cache-cleanup"));
+        }
+    }
+
+    /**
+     * @return the cache shared by all executors in this process, keeping up to 100 WSDLs in a temporary directory
+     */
+
+    public static synchronized WsdlCache getDefault() {
+        if (defaultCache == null) {
+            try {
+                defaultCache = new WsdlCache(DEFAULT_MAX_SIZE);
+            } catch (IOException e) {
+                throw new IllegalStateException("Couldn't create WSDL cache directory", e);
+            }
+        }
+        return defaultCache;
+    }
+
+    /**
+     * Returns the location of the local copy of the specified WSDL, fetching it and its imports if they have not been
+     * cached yet. If the WSDL can not be fetched the original location is returned, leaving it to SoapUI to load it.
+     *
+     * @param wsdlUrl the location of the WSDL
+     * @return the URL of the local copy of the WSDL, or the specified location if it could not be cached
+     */
+
+    public String getLocalWsdl(String wsdlUrl) {
+        CompletableFuture<File> wsdlFile;
+        boolean fetch = false;
+        synchronized (wsdlFiles) {
+            wsdlFile = wsdlFiles.get(wsdlUrl);
+            if (wsdlFile == null || isDeleted(wsdlFile)) {
+                wsdlFile = new CompletableFuture<>();
+                wsdlFiles.put(wsdlUrl, wsdlFile);
+                fetch = true;
+            }
+        }
+
+        if (fetch) {
+            misses.incrementAndGet();
+            try {
+                wsdlFile.complete(fetchWsdl(wsdlUrl));
+            } catch (Exception e) {
+                synchronized (wsdlFiles) {
+                    wsdlFiles.remove(wsdlUrl, wsdlFile);
+                }
+                wsdlFile.completeExceptionally(e);
+            }
+        } else {
+            hits.incrementAndGet();
+        }
+
+        try {
+            return wsdlFile.join().toURI().toString();
+        } catch (CompletionException e) {
+            LOG.warn("Failed to cache WSDL at " + wsdlUrl + ", loading it directly", e.getCause());
+            return wsdlUrl;
+        }
+    }
+
+    /**
+     * @return true if the documents of a finished fetch have been removed by someone else, like the user clearing a
+     * persistence directory
+     */
+    private static boolean isDeleted(CompletableFuture<File> wsdlFile) {
+        return wsdlFile.isDone() && !wsdlFile.isCompletedExceptionally() && !wsdlFile.join().exists();
+    }
+
+    /**
+     * @return the number of lookups that found a cached WSDL
+     */
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of lookups that had to fetch a WSDL
+     */
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * @return the number of cached WSDLs
+     */
+
+    public int size() {
+        synchronized (wsdlFiles) {
+            return wsdlFiles.size();
+        }
+    }
+
+    private File fetchWsdl(String wsdlUrl) throws Exception {
+        String name = digest(wsdlUrl);
+        // download to a directory of its own, so that nobody ever sees partial documents
+        File downloadDirectory = new File(cacheDirectory, name + "-" + UUID.randomUUID());
+        if (!persistent) {
+            // every fetch is published in its own directory, so documents that may still be in use are never replaced
+            fetchDocuments(wsdlUrl, downloadDirectory);
+            return new File(downloadDirectory, DEFINITION_FILE_PREFIX + "0.xml");
+        }
+
+        File directory = new File(cacheDirectory, name);
+        File wsdlFile = new File(directory, DEFINITION_FILE_PREFIX + "0.xml");
+        if (wsdlFile.exists()) {
+            return wsdlFile;
+        }
+        try {
+            fetchDocuments(wsdlUrl, downloadDirectory);
+            if (!downloadDirectory.renameTo(directory) && !wsdlFile.exists()) {
+                throw new IOException("Couldn't move fetched documents to " + directory);
+            }
+            // if another process published the WSDL first, its documents are used and ours are dropped
+            return wsdlFile;
+        } finally {
+            if (downloadDirectory.exists()) {
+                deleteDirectoryTree(downloadDirectory);
+            }
+        }
+    }
+
+    private void fetchDocuments(String wsdlUrl, File directory) throws Exception {
+        if (!directory.mkdirs()) {
+            throw new IOException("Couldn't create directory " + directory);
+        }
+        try {
+            fetchDocument(new URL(wsdlUrl), directory, new HashMap<>());
+        } catch (Exception e) {
+            deleteDirectoryTree(directory);
+            throw e;
+        }
+    }
+
+    /**
+     * Fetches the document at the specified URL and all documents it imports into the specified directory
+     *
+     * @return the name of the local file for the document
+     */
+    private String fetchDocument(URL url, File directory, Map<String, String> fileNames) throws Exception {
+        String fileName = fileNames.get(url.toExternalForm());
+        if (fileName != null) {
+            return fileName;
+        }
+
+        fileName = DEFINITION_FILE_PREFIX + fileNames.size() + ".xml";
+        fileNames.put(url.toExternalForm(), fileName);
+
+        Document document;
+        try (InputStream inputStream = url.openStream()) {
+            document = createDocumentBuilder().parse(inputStream, url.toExternalForm());
+        }
+
+        rewriteLocations(document, WSDL_NAMESPACE, "import", "location", url, directory, fileNames);
+        rewriteLocations(document, XML_SCHEMA_NAMESPACE, "import", "schemaLocation", url, directory, fileNames);
+        rewriteLocations(document, XML_SCHEMA_NAMESPACE, "include", "schemaLocation", url, directory, fileNames);
+        rewriteLocations(document, XML_SCHEMA_NAMESPACE, "redefine", "schemaLocation", url, directory, fileNames);
+
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.transform(new DOMSource(document), new StreamResult(new File(directory, fileName)));
+        return fileName;
+    }
+
+    private void rewriteLocations(Document document, String namespace, String elementName, String attributeName,
+                                  URL baseUrl, File directory, Map<String, String> fileNames) throws Exception {
+        NodeList elements = document.getElementsByTagNameNS(namespace, elementName);
+        for (int i = 0; i < elements.getLength(); i++) {
+            Element element = (Element) elements.item(i);
+            String location = element.getAttribute(attributeName);
+            if (!location.isEmpty()) {
+                element.setAttribute(attributeName, fetchDocument(new URL(baseUrl, location), directory, fileNames));
+            }
+        }
+    }
+
+    private DocumentBuilder createDocumentBuilder() throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        // documents come from the network, so DTDs and external entities are never processed
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        factory.setXIncludeAware(false);
+        factory.setExpandEntityReferences(false);
+        return factory.newDocumentBuilder();
+    }
+
+    private static String digest(String text) throws Exception {
+        byte[] hash = MessageDigest.getInstance("SHA-1").digest(text.getBytes(StandardCharsets.UTF_8));
+        StringBuilder result = new StringBuilder();
+        for (byte b : hash) {
+            result.append(String.format("%02x", b));
+        }
+        return result.toString();
+    }
+
+    private static void deleteDirectoryTree(File directory) {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (file.isDirectory()) {
+                    deleteDirectoryTree(file);
+                } else if (!file.delete()) {
+                    LOG.debug("Failed to delete cached document " + file);
+                }
+            }
+        }
+        if (!directory.delete()) {
+            LOG.debug("Failed to delete WSDL cache directory " + directory);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.smartbear.readyapi4j.local.execution;
+
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+public class ExecutionRegistryTest {
+    private static final int MAX_FINISHED_EXECUTIONS = 100;
+
+    private final ExecutionRegistry registry = new ExecutionRegistry();
+
+    @Test
+    public void staysBoundedAfterManyFinishedExecutions() {
+        registry.setMaxFinishedExecutions(MAX_FINISHED_EXECUTIONS);
+
+        for (int i = 0; i < 100000; i++) {
+            SoapUIRecipeExecution execution = newExecution();
+            registry.register(execution);
+            registry.executionFinished(execution);
+            assertTrue(registry.size() <= MAX_FINISHED_EXECUTIONS);
+        }
+        assertThat(registry.size(), is(MAX_FINISHED_EXECUTIONS));
+    }
+
+    @Test
+    public void keepsRunningExecutions() {
+        registry.setMaxFinishedExecutions(0);
+        SoapUIRecipeExecution running = newExecution();
+        SoapUIRecipeExecution finished = newExecution();
+
+        registry.register(running);
+        registry.register(finished);
+        registry.executionFinished(finished);
+
+        assertThat(registry.get(running.getId()), is(running));
+        assertThat(registry.get(finished.getId()), is(nullValue()));
+    }
+
+    @Test
+    public void evictsExecutionsFinishedBeforeRetentionTime() throws Exception {
+        SoapUIRecipeExecution execution = newExecution();
+        registry.register(execution);
+        registry.executionFinished(execution);
+
+        Thread.sleep(20);
+        registry.setRetentionTime(10);
+        assertThat(registry.getExecutions().isEmpty(), is(true));
+    }
+
+    @Test
+    public void releasesExecutions() {
+        SoapUIRecipeExecution execution = newExecution();
+        registry.register(execution);
+
+        assertThat(registry.release(execution.getId()), is(true));
+        assertThat(registry.get(execution.getId()), is(nullValue()));
+        assertThat(registry.release(execution.getId()), is(false));
+    }
+
+    @Test
+    public void releasedExecutionsDoNotPushOutHeldExecutions() {
+        registry.setMaxFinishedExecutions(2);
+        SoapUIRecipeExecution held = newExecution();
+        registry.register(held);
+        registry.executionFinished(held);
+
+        for (int i = 0; i < 5; i++) {
+            SoapUIRecipeExecution released = newExecution();
+            registry.register(released);
+            registry.executionFinished(released);
+            registry.release(released.getId());
+        }
+
+        assertThat(registry.get(held.getId()), is(held));
+    }
+
+    @Test
+    public void releasesMessageExchangesOfEvictedAndReleasedExecutions() {
+        registry.setMaxFinishedExecutions(1);
+        SoapUIRecipeExecution evicted = spy(newExecution());
+        SoapUIRecipeExecution released = spy(newExecution());
+        SoapUIRecipeExecution held = spy(newExecution());
+
+        for (SoapUIRecipeExecution execution : new SoapUIRecipeExecution[]{evicted, released, held}) {
+            registry.register(execution);
+        }
+        registry.executionFinished(evicted);
+        registry.release(released.getId());
+        registry.executionFinished(held);
+
+        verify(evicted).releaseMessageExchanges();
+        verify(released).releaseMessageExchanges();
+        verify(held, never()).releaseMessageExchanges();
+    }
+
+    private SoapUIRecipeExecution newExecution() {
+        return new SoapUIRecipeExecution(UUID.randomUUID().toString(), null);
+    }
+}
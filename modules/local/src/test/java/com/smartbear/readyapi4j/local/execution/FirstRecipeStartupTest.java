@@ -0,0 +1,57 @@
+package com.smartbear.readyapi4j.local.execution;
+
+import com.smartbear.readyapi.client.model.ProjectResultReport;
+import com.smartbear.readyapi4j.execution.Execution;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.smartbear.readyapi.util.rest.local.LocalServerUtil.startLocalServer;
+import static com.smartbear.readyapi.util.rest.local.LocalServerUtil.stopLocalServer;
+import static com.smartbear.readyapi4j.TestRecipeBuilder.newTestRecipe;
+import static com.smartbear.readyapi4j.teststeps.TestSteps.GET;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Measures the time to the first completed recipe of a JVM. Surefire runs this class in a JVM of its own (see the
+ * startup-tests execution in the pom), so the measurement is not distorted by classes loaded by other tests.
+ */
+public class FirstRecipeStartupTest {
+    private static Logger logger = LoggerFactory.getLogger(FirstRecipeStartupTest.class);
+
+    private static String serverURL;
+
+    @BeforeClass
+    public static void setup() {
+        serverURL = "http://localhost:" + startLocalServer() + "/";
+    }
+
+    @AfterClass
+    public static void cleanUp() {
+        stopLocalServer();
+    }
+
+    @Test
+    public void completesFirstRecipeWhileWarmingUpInBackground() throws Exception {
+        long testStart = System.currentTimeMillis();
+        SoapUIRecipeExecutor executor = new SoapUIRecipeExecutor();
+        CompletableFuture<Long> warmUp = executor.warmUpInBackground();
+
+        Execution execution = executor.executeRecipe(newTestRecipe(GET(serverURL)).buildTestRecipe());
+        long firstRecipeEnd = System.currentTimeMillis();
+        long warmUpTime = warmUp.get(1, TimeUnit.MINUTES);
+
+        assertThat(execution.getCurrentStatus(), is(ProjectResultReport.StatusEnum.FINISHED));
+        assertThat(executor.isWarmedUp(), is(true));
+        logger.info("First recipe completed " + (firstRecipeEnd - testStart) + " ms after the test started and "
+                + (firstRecipeEnd - ManagementFactory.getRuntimeMXBean().getStartTime())
+                + " ms after the JVM started; the background warm-up took " + warmUpTime + " ms");
+    }
+}
@@ -0,0 +1,109 @@
+package com.smartbear.readyapi4j.local.execution;
+
+import com.eviware.soapui.impl.wsdl.WsdlProject;
+import com.eviware.soapui.impl.wsdl.testcase.WsdlProjectRunner;
+import com.eviware.soapui.model.testsuite.TestCase;
+import com.eviware.soapui.model.testsuite.TestCaseRunner;
+import com.eviware.soapui.model.testsuite.TestRunner;
+import com.eviware.soapui.model.testsuite.TestStep;
+import com.eviware.soapui.model.testsuite.TestStepResult;
+import com.eviware.soapui.model.testsuite.TestSuite;
+import com.eviware.soapui.model.testsuite.TestSuiteRunner;
+import com.smartbear.readyapi.client.model.ProjectResultReport;
+import com.smartbear.readyapi.client.model.TestStepResultReport;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that reports of running executions are built incrementally, by polling a simulated 10k step run
+ */
+public class SoapUIRecipeExecutionTest {
+    private static final int STEP_COUNT = 10000;
+    private static final int STEPS_PER_POLL = 100;
+
+    private final List<TestStepResult> stepResults = new ArrayList<>();
+    private WsdlProjectRunner projectRunner;
+    private TestCase testCase;
+    private TestCaseRunner testCaseRunner;
+    private TestStepResult stepResult;
+
+    @Before
+    public void setUp() {
+        TestStep testStep = mock(TestStep.class);
+        when(testStep.getName()).thenReturn("step");
+        stepResult = mock(TestStepResult.class);
+        when(stepResult.getTestStep()).thenReturn(testStep);
+        when(stepResult.getMessages()).thenReturn(new String[0]);
+        when(stepResult.getStatus()).thenReturn(TestStepResult.TestStepStatus.OK);
+
+        testCase = mock(TestCase.class);
+        when(testCase.getName()).thenReturn("testCase");
+        testCaseRunner = mock(TestCaseRunner.class);
+        when(testCaseRunner.getTestCase()).thenReturn(testCase);
+        when(testCaseRunner.getResults()).thenReturn(stepResults);
+        when(testCaseRunner.getStatus()).thenReturn(TestRunner.Status.RUNNING);
+
+        TestSuite testSuite = mock(TestSuite.class);
+        when(testSuite.getName()).thenReturn("testSuite");
+        TestSuiteRunner testSuiteRunner = mock(TestSuiteRunner.class);
+        when(testSuiteRunner.getTestSuite()).thenReturn(testSuite);
+        when(testSuiteRunner.getResults()).thenReturn(Collections.singletonList(testCaseRunner));
+
+        projectRunner = mock(WsdlProjectRunner.class);
+        when(projectRunner.getProject()).thenReturn(mock(WsdlProject.class));
+        when(projectRunner.getResults()).thenReturn(Collections.singletonList(testSuiteRunner));
+        when(projectRunner.getStatus()).thenReturn(TestRunner.Status.RUNNING);
+    }
+
+    @Test
+    public void convertsEveryStepResultOnceWhenPollingReports() throws Exception {
+        SoapUIRecipeExecution execution = new SoapUIRecipeExecution("id", projectRunner);
+        TestStepResultReport firstStepReport = null;
+
+        while (stepResults.size() < STEP_COUNT) {
+            for (int i = 0; i < STEPS_PER_POLL; i++) {
+                stepResults.add(stepResult);
+            }
+            ProjectResultReport report = execution.getCurrentReport();
+            List<TestStepResultReport> stepReports = getTestStepResultReports(report);
+            assertThat(stepReports.size(), is(stepResults.size()));
+            if (firstStepReport == null) {
+                firstStepReport = stepReports.get(0);
+            }
+            assertThat(stepReports.get(0), is(sameInstance(firstStepReport)));
+        }
+
+        verify(stepResult, times(STEP_COUNT)).getMessages();
+    }
+
+    @Test
+    public void copiesTestCasePropertiesWhenTestCaseFinishes() throws Exception {
+        SoapUIRecipeExecution execution = new SoapUIRecipeExecution("id", projectRunner);
+        stepResults.add(stepResult);
+        execution.getCurrentReport();
+
+        when(testCaseRunner.getStatus()).thenReturn(TestRunner.Status.FINISHED);
+        when(projectRunner.getStatus()).thenReturn(TestRunner.Status.FINISHED);
+        ProjectResultReport finalReport = execution.getCurrentReport();
+
+        assertThat(getTestStepResultReports(finalReport).size(), is(1));
+        assertThat(execution.getCurrentReport(), is(sameInstance(finalReport)));
+        verify(testCase, times(2)).getProperties();
+    }
+
+    private List<TestStepResultReport> getTestStepResultReports(ProjectResultReport report) {
+        return report.getTestSuiteResultReports().get(0).getTestCaseResultReports().get(0).getTestStepResultReports();
+    }
+}
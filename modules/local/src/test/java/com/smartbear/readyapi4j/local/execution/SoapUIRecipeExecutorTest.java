@@ -9,10 +9,23 @@ import com.smartbear.readyapi4j.ExecutionListener;
 import com.smartbear.readyapi4j.TestRecipe;
 import com.smartbear.readyapi4j.execution.Execution;
 import com.smartbear.readyapi4j.extractor.ExtractorData;
+import com.smartbear.readyapi4j.result.TestStepResult;
 import com.smartbear.readyapi4j.teststeps.propertytransfer.PathLanguage;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.smartbear.readyapi.util.rest.local.LocalServerUtil.addGetToLocalServer;
 import static com.smartbear.readyapi.util.rest.local.LocalServerUtil.addPostToLocalServer;
@@ -31,12 +44,15 @@ import static com.smartbear.readyapi4j.teststeps.propertytransfer.PropertyTransf
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 public class SoapUIRecipeExecutorTest {
     private static final String REST_SOURCE = "SourceStep";
@@ -55,6 +71,9 @@ public class SoapUIRecipeExecutorTest {
     private static final String GOOGLE_ENDPOINT = "http://maps.googleapis.com";
     private static final String URI = GOOGLE_ENDPOINT + "/maps/api/geocode/xml";
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private SoapUIRecipeExecutor executor = new SoapUIRecipeExecutor();
     private static String serverURL;
     private static String jsonURL;
@@ -81,6 +100,19 @@ public class SoapUIRecipeExecutorTest {
         stopLocalServer();
     }
 
+    @Test
+    public void warmsUpWithoutNotifyingListenersOrKeepingExecutions() throws Exception {
+        SoapUIRecipeExecutor warmedUpExecutor = new SoapUIRecipeExecutor();
+        ExecutionListener executionListener = mock(ExecutionListener.class);
+        warmedUpExecutor.addExecutionListener(executionListener);
+
+        warmedUpExecutor.warmUpInBackground().get(1, TimeUnit.MINUTES);
+
+        assertThat(warmedUpExecutor.isWarmedUp(), is(true));
+        assertThat(warmedUpExecutor.getExecutions().isEmpty(), is(true));
+        verifyZeroInteractions(executionListener);
+    }
+
     @Test
     public void runsMinimalProject() throws Exception {
         TestRecipe testRecipe = newTestRecipe(
@@ -91,6 +123,89 @@ public class SoapUIRecipeExecutorTest {
         assertThat(execution.getCurrentStatus(), is(ProjectResultReport.StatusEnum.FINISHED));
     }
 
+    @Test
+    public void notifiesListenersOfEveryFinishedTestStep() throws Exception {
+        TestRecipe testRecipe = newTestRecipe(
+                groovyScriptStep("println 'Hello Earth'"),
+                groovyScriptStep("println 'Hello Mars'")
+        ).buildTestRecipe();
+        List<String> finishedSteps = new ArrayList<>();
+        SoapUIRecipeExecutor listeningExecutor = new SoapUIRecipeExecutor();
+        listeningExecutor.addExecutionListener(new ExecutionListener() {
+            @Override
+            public void testStepFinished(Execution execution, TestStepResult testStepResult) {
+                finishedSteps.add(testStepResult.getTestStepName());
+            }
+        });
+
+        Execution execution = listeningExecutor.executeRecipe(testRecipe);
+        assertThat(finishedSteps.size(), is(2));
+        assertThat(finishedSteps.get(0), is(execution.getExecutionResult().getTestStepResult(0).getTestStepName()));
+    }
+
+    @Test
+    public void runsRecipesInParallel() throws Exception {
+        List<TestRecipe> recipes = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            recipes.add(newTestRecipe(
+                    groovyScriptStep("println 'Hello Earth'")
+            ).buildTestRecipe());
+        }
+
+        List<Execution> executions = executor.executeRecipes(recipes, 4).getExecutions();
+        assertThat(executions.size(), is(8));
+        for (int i = 0; i < 8; i++) {
+            assertThat(executions.get(i).getCurrentStatus(), is(ProjectResultReport.StatusEnum.FINISHED));
+        }
+    }
+
+    @Test
+    public void reusesCachedProjectTemplateForRecipesWithSameStructure() throws Exception {
+        SoapUIRecipeExecutor cachingExecutor = new SoapUIRecipeExecutor().withProjectTemplateCache(10);
+        for (String value : new String[]{"Earth", "Mars", "Venus"}) {
+            TestRecipe testRecipe = newTestRecipe(
+                    groovyScriptStep("testRunner.testCase.setPropertyValue('greeting', " +
+                            "'Hello ' + context.expand('${#TestCase#planet}'))")
+            ).withProperty("planet", value).withProperty("greeting", "").buildTestRecipe();
+            Execution execution = cachingExecutor.executeRecipe(testRecipe);
+            assertThat(execution.getCurrentStatus(), is(ProjectResultReport.StatusEnum.FINISHED));
+
+            // the script read the property value of this recipe, not the one the template was parsed with
+            Map<String, String> properties = execution.getCurrentReport().getTestSuiteResultReports().get(0)
+                    .getTestCaseResultReports().get(0).getProperties();
+            assertThat(properties.get("greeting"), is("Hello " + value));
+        }
+
+        ProjectTemplateCache templateCache = cachingExecutor.getProjectTemplateCache();
+        assertThat(templateCache.size(), is(1));
+        assertThat(templateCache.getMissCount(), is(1L));
+        assertThat(templateCache.getHitCount(), is(2L));
+    }
+
+    @Test
+    public void reusesCachedProjectTemplateForRecipesWithExtractors() throws Exception {
+        SoapUIRecipeExecutor cachingExecutor = new SoapUIRecipeExecutor().withProjectTemplateCache(10);
+        for (int i = 0; i < 3; i++) {
+            final String[] extractedProperty = {""};
+            TestRecipe recipe = newTestRecipe(
+                    GET(serverURL)
+                            .named("RestRequest")
+                            .withExtractors(fromProperty("Endpoint", property -> extractedProperty[0] = property)))
+                    .buildTestRecipe();
+
+            Execution execution = cachingExecutor.executeRecipe(recipe);
+            assertThat(execution.getCurrentStatus(), is(ProjectResultReport.StatusEnum.FINISHED));
+
+            // the copy of the template was bound to the extractor data of this recipe
+            assertThat(extractedProperty[0], startsWith("http://localhost:"));
+        }
+
+        ProjectTemplateCache templateCache = cachingExecutor.getProjectTemplateCache();
+        assertThat(templateCache.size(), is(1));
+        assertThat(templateCache.getMissCount(), is(1L));
+        assertThat(templateCache.getHitCount(), is(2L));
+    }
+
     @Test
     public void runsRestGetRequestJson() throws Exception {
         TestRecipe testRecipe = newTestRecipe(
@@ -107,6 +222,53 @@ public class SoapUIRecipeExecutorTest {
         assertEquals("{\"message\":\"Hello World\"}", harResponse.getContent().getText());
     }
 
+    @Test
+    public void loadsSpilledMessageExchangesLazily() throws Exception {
+        SoapUIRecipeExecutor spillingExecutor = new SoapUIRecipeExecutor()
+                .withMessageExchangeRetention(MessageExchangeRetention.all().withSpillThreshold(0));
+        Execution execution = spillingExecutor.executeRecipe(newTestRecipe(GET(serverURL).acceptsJson()).buildTestRecipe());
+
+        HarResponse harResponse = execution.getExecutionResult().getTestStepResult(0).getHarEntry().getResponse();
+        assertEquals("{\"message\":\"Hello World\"}", harResponse.getContent().getText());
+    }
+
+    @Test
+    public void deletesSpilledMessageExchangesWhenExecutionIsReleased() throws Exception {
+        File spillDirectory = temporaryFolder.newFolder();
+        SoapUIRecipeExecutor spillingExecutor = new SoapUIRecipeExecutor().withMessageExchangeRetention(
+                MessageExchangeRetention.all().withSpillThreshold(0).withSpillDirectory(spillDirectory));
+        Execution execution = spillingExecutor.executeRecipe(newTestRecipe(GET(serverURL).acceptsJson()).buildTestRecipe());
+        assertThat(spillDirectory.list().length, is(1));
+
+        assertThat(spillingExecutor.release(execution), is(true));
+        assertThat(spillDirectory.list().length, is(0));
+        assertThat(execution.getExecutionResult().getTestStepResult(0).getHarEntry(), is(nullValue()));
+    }
+
+    @Test
+    public void keepsOnlyTheLastMessageExchanges() throws Exception {
+        SoapUIRecipeExecutor retainingExecutor = new SoapUIRecipeExecutor()
+                .withMessageExchangeRetention(MessageExchangeRetention.lastN(1));
+        Execution execution = retainingExecutor.executeRecipe(newTestRecipe(
+                GET(serverURL).acceptsJson(),
+                GET(serverURL).acceptsJson()
+        ).buildTestRecipe());
+
+        assertThat(execution.getExecutionResult().getTestStepResult(0).getHarEntry(), is(nullValue()));
+        assertThat(execution.getExecutionResult().getTestStepResult(1).getHarEntry(), is(not(nullValue())));
+    }
+
+    @Test
+    public void keepsMessageExchangeMetadataWithoutBodies() throws Exception {
+        SoapUIRecipeExecutor retainingExecutor = new SoapUIRecipeExecutor()
+                .withMessageExchangeRetention(MessageExchangeRetention.metadataOnly());
+        Execution execution = retainingExecutor.executeRecipe(newTestRecipe(GET(serverURL).acceptsJson()).buildTestRecipe());
+
+        HarResponse harResponse = execution.getExecutionResult().getTestStepResult(0).getHarEntry().getResponse();
+        assertThat(harResponse.getStatus(), is(200));
+        assertThat(harResponse.getContent().getText(), is(nullValue()));
+    }
+
     @Test
     public void runsPropertyTransferRequest() {
         TestRecipe testRecipe = newTestRecipe(
@@ -154,6 +316,38 @@ public class SoapUIRecipeExecutorTest {
         verify(listenerMock, timeout(20000).times(1)).executionFinished( any());
     }
 
+    @Test
+    public void completesFutureForAsyncExecution() throws Exception {
+        TestRecipe testRecipe = buildPropertyTransferWithJsonPathExtractionTestRecipe();
+
+        Execution execution = executor.submitRecipeAsync(testRecipe).get(20, TimeUnit.SECONDS);
+        assertThat(execution.getCurrentStatus(), is(ProjectResultReport.StatusEnum.FINISHED));
+        assertThat(getPostedJsonTestObject(), is(testObject));
+    }
+
+    @Test
+    public void runsAsyncRecipesOnConfiguredExecutor() throws Exception {
+        AtomicInteger executedTasks = new AtomicInteger();
+        ExecutorService threadPool = Executors.newFixedThreadPool(4);
+        try {
+            SoapUIRecipeExecutor pooledExecutor = new SoapUIRecipeExecutor().withAsyncExecutor(task -> {
+                executedTasks.incrementAndGet();
+                threadPool.execute(task);
+            });
+
+            List<CompletableFuture<Execution>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(pooledExecutor.submitRecipeAsync(buildPropertyTransferWithJsonPathExtractionTestRecipe()));
+            }
+            for (CompletableFuture<Execution> future : futures) {
+                assertThat(future.get(1, TimeUnit.MINUTES).getCurrentStatus(), is(ProjectResultReport.StatusEnum.FINISHED));
+            }
+            assertThat(executedTasks.get(), is(10));
+        } finally {
+            threadPool.shutdown();
+        }
+    }
+
     @Test
     public void extractsDataAfterRecipeExecution() {
         final String[] extractedProperty = {""};
@@ -0,0 +1,127 @@
+package com.smartbear.readyapi4j.local.execution;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class WsdlCacheTest {
+    private static final String WSDL = "<wsdl:definitions xmlns:wsdl=\"http://schemas.xmlsoap.org/wsdl/\" " +
+            "xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\"><wsdl:types><xsd:schema>" +
+            "<xsd:import schemaLocation=\"types.xsd\"/></xsd:schema></wsdl:types></wsdl:definitions>";
+    private static final String SCHEMA = "<xsd:schema xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\">" +
+            "<xsd:element name=\"value\" type=\"xsd:string\"/></xsd:schema>";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private String wsdlUrl;
+
+    @Before
+    public void setUp() throws Exception {
+        File serviceFolder = temporaryFolder.newFolder("service");
+        File wsdlFile = new File(serviceFolder, "service.wsdl");
+        Files.write(wsdlFile.toPath(), WSDL.getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(serviceFolder, "types.xsd").toPath(), SCHEMA.getBytes(StandardCharsets.UTF_8));
+        wsdlUrl = wsdlFile.toURI().toString();
+    }
+
+    @Test
+    public void fetchesWsdlAndImportsOnce() throws Exception {
+        WsdlCache cache = new WsdlCache(10);
+
+        String localWsdl = cache.getLocalWsdl(wsdlUrl);
+        assertThat(cache.getLocalWsdl(wsdlUrl), is(localWsdl));
+
+        assertThat(localWsdl, is(not(wsdlUrl)));
+        assertThat(cache.getMissCount(), is(1L));
+        assertThat(cache.getHitCount(), is(1L));
+
+        File localFile = new File(new URI(localWsdl));
+        String content = new String(Files.readAllBytes(localFile.toPath()), StandardCharsets.UTF_8);
+        assertTrue(content.contains("schemaLocation=\"document-1.xml\""));
+        assertTrue(new File(localFile.getParentFile(), "document-1.xml").exists());
+    }
+
+    @Test
+    public void reusesPersistedWsdlsInNewCache() throws Exception {
+        File persistenceDirectory = temporaryFolder.newFolder("cache");
+        String localWsdl = new WsdlCache(10, persistenceDirectory).getLocalWsdl(wsdlUrl);
+
+        Files.delete(new File(temporaryFolder.getRoot(), "service/types.xsd").toPath());
+
+        assertThat(new WsdlCache(10, persistenceDirectory).getLocalWsdl(wsdlUrl), is(localWsdl));
+    }
+
+    @Test
+    public void fallsBackToOriginalLocationForMissingWsdl() throws Exception {
+        String missingWsdl = new File(temporaryFolder.getRoot(), "missing.wsdl").toURI().toString();
+
+        assertThat(new WsdlCache(10).getLocalWsdl(missingWsdl), is(missingWsdl));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedWsdls() throws Exception {
+        WsdlCache cache = new WsdlCache(1);
+        String firstWsdl = cache.getLocalWsdl(wsdlUrl);
+
+        File otherWsdl = temporaryFolder.newFile("other.wsdl");
+        Files.write(otherWsdl.toPath(), SCHEMA.getBytes(StandardCharsets.UTF_8));
+        cache.getLocalWsdl(otherWsdl.toURI().toString());
+
+        assertThat(cache.size(), is(1));
+        // evicted documents may still be read by running executions, so they are kept until the JVM exits
+        assertThat(new File(new URI(firstWsdl)).exists(), is(true));
+
+        String refetchedWsdl = cache.getLocalWsdl(wsdlUrl);
+        assertThat(refetchedWsdl, is(not(firstWsdl)));
+        assertThat(cache.getMissCount(), is(3L));
+    }
+
+    @Test
+    public void fetchesWsdlOnceForConcurrentLookups() throws Exception {
+        WsdlCache cache = new WsdlCache(10);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> localWsdls = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                localWsdls.add(executorService.submit(() -> cache.getLocalWsdl(wsdlUrl)));
+            }
+            String localWsdl = localWsdls.get(0).get();
+            for (Future<String> future : localWsdls) {
+                assertThat(future.get(), is(localWsdl));
+            }
+            assertThat(localWsdl, is(not(wsdlUrl)));
+            assertThat(cache.getMissCount(), is(1L));
+            assertTrue(new File(new URI(localWsdl)).exists());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void refusesDocumentsWithDoctype() throws Exception {
+        File wsdlWithDoctype = temporaryFolder.newFile("doctype.wsdl");
+        String content = "<!DOCTYPE definitions [<!ENTITY secret SYSTEM \"file:///etc/passwd\">]>" +
+                "<definitions>&secret;</definitions>";
+        Files.write(wsdlWithDoctype.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        String url = wsdlWithDoctype.toURI().toString();
+
+        assertThat(new WsdlCache(10).getLocalWsdl(url), is(url));
+    }
+}
@@ -7,16 +7,21 @@ import com.smartbear.readyapi.client.model.TestStep;
 import com.smartbear.readyapi.client.model.UnresolvedFile;
 import com.smartbear.readyapi4j.ExecutionListener;
 import com.smartbear.readyapi4j.execution.DataExtractors;
-import com.smartbear.readyapi4j.execution.Execution;
+import com.smartbear.readyapi4j.execution.ExecutionFailedException;
+import com.smartbear.readyapi4j.execution.RecipeExecutionException;
 import com.smartbear.readyapi4j.extractor.ExtractorData;
+import com.smartbear.readyapi4j.result.TestStepResult;
+import com.smartbear.readyapi4j.support.FlightRecorderEvents;
+import com.smartbear.readyapi4j.support.FlightRecorderEvents.Phase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Base class for the various TestServer executors
@@ -26,7 +31,8 @@ abstract class AbstractTestServerExecutor {
     private static Logger logger = LoggerFactory.getLogger(AbstractTestServerExecutor.class);
     private static final int NUMBER_OF_RETRIES_IN_CASE_OF_ERRORS = 3;
     private final List<ExecutionListener> executionListeners = new CopyOnWriteArrayList<>();
-    protected List<ExtractorData> extractorDataList = new LinkedList<>();
+    // extractors of the running executions, removed when their execution has finished
+    private final Map<String, ExtractorData> extractorDataByExecutionId = new ConcurrentHashMap<>();
 
     final TestServerClient testServerClient;
 
@@ -57,11 +63,67 @@ abstract class AbstractTestServerExecutor {
         }
     }
 
-    void notifyExecutionFinished(Execution execution) {
-        ProjectResultReport executionReport = execution.getCurrentReport();
-        DataExtractors.runDataExtractors(executionReport, extractorDataList);
-        for (ExecutionListener executionListener : executionListeners) {
-            executionListener.executionFinished(execution);
+    void notifyTestStepsFinished(TestServerExecution execution) {
+        if (executionListeners.isEmpty()) {
+            return;
+        }
+        for (TestStepResult testStepResult : execution.getNewTestStepResults()) {
+            for (ExecutionListener executionListener : executionListeners) {
+                executionListener.testStepFinished(execution, testStepResult);
+            }
+        }
+    }
+
+    void notifyExecutionFinished(TestServerExecution execution) {
+        RecipeExecutionException extractionFailure = null;
+        try {
+            notifyTestStepsFinished(execution);
+            ProjectResultReport executionReport = execution.getCurrentReport();
+            ExtractorData extractorData = extractorDataByExecutionId.remove(execution.getId());
+            if (extractorData != null) {
+                DataExtractors.runDataExtractors(executionReport, extractorData);
+                try {
+                    DataExtractors.runClientSideExtractors(execution.getExecutionResult(), extractorData,
+                            execution.getHarCapturePolicy(), testServerClient.getExtractionExecutor());
+                } catch (RecipeExecutionException e) {
+                    extractionFailure = e;
+                    notifyErrorOccurred(e);
+                }
+            }
+            FlightRecorderEvents.testStepsFinished(execution.getRecipeName(), execution);
+
+            try (FlightRecorderEvents.Span ignored = FlightRecorderEvents.begin(Phase.LISTENER_CALLBACK,
+                    execution.getRecipeName(), execution.getId())) {
+                for (ExecutionListener executionListener : executionListeners) {
+                    executionListener.executionFinished(execution);
+                }
+            }
+        } finally {
+            if (extractionFailure == null) {
+                execution.getCompletion().complete(execution);
+            } else {
+                execution.getCompletion().completeExceptionally(extractionFailure);
+            }
+        }
+        if (extractionFailure != null) {
+            throw extractionFailure;
+        }
+    }
+
+    void registerExtractorData(TestServerExecution execution, ExtractorData extractorData) {
+        if (extractorData != null) {
+            extractorDataByExecutionId.put(execution.getId(), extractorData);
+        }
+    }
+
+    private void executionFailed(TestServerExecution execution, ExecutionFailedException exception) {
+        extractorDataByExecutionId.remove(execution.getId());
+        try {
+            notifyErrorOccurred(exception);
+        } catch (Exception e) {
+            logger.error("Error while notifying listeners of failed execution", e);
+        } finally {
+            execution.getCompletion().completeExceptionally(exception);
         }
     }
 
@@ -91,39 +153,80 @@ abstract class AbstractTestServerExecutor {
         }
     }
 
-    private class ExecutionStatusChecker {
-        private final Timer timer;
-
+    private class ExecutionStatusChecker implements ExecutionStatusPoller.StatusCheck {
         private final TestServerExecution execution;
+        private final ExecutionStatusPoller poller;
+        private final StatusPollingPolicy pollingPolicy;
 
         private int errorCount = 0;
+        private int pollCount = 0;
 
         ExecutionStatusChecker(TestServerExecution execution) {
             this.execution = execution;
-            timer = new Timer();
+            poller = testServerClient.getStatusPoller();
+            pollingPolicy = testServerClient.getStatusPollingPolicy();
         }
 
         void start() {
-            timer.schedule(new CheckingExpireDateTask(), 1000, 1000);
+            poller.executionStarted();
+            schedule(pollingPolicy.getInitialDelay());
+        }
+
+        private void schedule(long delay) {
+            try {
+                poller.schedule(this, delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                stop();
+                executionFailed(execution, new ExecutionFailedException("Status poller has been shut down", execution, e));
+            }
+        }
+
+        private void stop() {
+            poller.executionFinished();
         }
 
-        class CheckingExpireDateTask extends TimerTask {
-            @Override
-            public void run() {
+        @Override
+        public void pollerShutDown() {
+            stop();
+            executionFailed(execution, new ExecutionFailedException("Status poller has been shut down", execution));
+        }
+
+        @Override
+        public void run() {
+            ProjectResultReport executionStatus;
+            try (FlightRecorderEvents.Span ignored = FlightRecorderEvents.begin(Phase.STATUS_POLL,
+                    execution.getRecipeName(), execution.getId())) {
+                pollCount++;
+                poller.statusRequested();
+                executionStatus = testServerClient.getExecutionStatus(execution.getId());
+                execution.addResultReport(executionStatus);
+                errorCount = 0;
+            } catch (Exception e) {
+                if (errorCount > NUMBER_OF_RETRIES_IN_CASE_OF_ERRORS) {
+                    stop();
+                    executionFailed(execution, new ExecutionFailedException(
+                            "Failed to get status for execution " + execution.getId(), execution, e));
+                    return;
+                }
+                logger.debug("Error while checking for execution status", e);
+                errorCount++;
+                schedule(pollingPolicy.getNextDelay(pollCount, execution.getCurrentReport()));
+                return;
+            }
+
+            if (ProjectResultReport.StatusEnum.RUNNING.equals(executionStatus.getStatus())) {
+                try {
+                    notifyTestStepsFinished(execution);
+                } catch (Exception e) {
+                    logger.error("Error while notifying listeners of finished test steps", e);
+                }
+                schedule(pollingPolicy.getNextDelay(pollCount, executionStatus));
+            } else {
+                stop();
                 try {
-                    ProjectResultReport executionStatus = testServerClient.getExecutionStatus(execution.getId());
-                    execution.addResultReport(executionStatus);
-                    if (!ProjectResultReport.StatusEnum.RUNNING.equals(executionStatus.getStatus())) {
-                        notifyExecutionFinished(execution);
-                        timer.cancel();
-                    }
-                    errorCount = 0;
+                    notifyExecutionFinished(execution);
                 } catch (Exception e) {
-                    if (errorCount > NUMBER_OF_RETRIES_IN_CASE_OF_ERRORS) {
-                        timer.cancel();
-                    }
-                    logger.debug("Error while checking for execution status", e);
-                    errorCount++;
+                    logger.error("Error while notifying listeners of finished execution", e);
                 }
             }
         }
@@ -0,0 +1,19 @@
+package com.smartbear.readyapi4j.testserver.execution;
+
+/**
+ * Listener that is notified of every HTTP call made to the TestServer API
+ */
+
+@FunctionalInterface
+public interface ApiCallListener {
+
+    /**
+     * Called when a response has been received, or the call failed without one
+     *
+     * @param method        the HTTP method
+     * @param path          the path of the call, relative to the base path of the API
+     * @param statusCode    the HTTP status code of the response, 0 if no response was received
+     * @param durationNanos the time until the response was received, in nanoseconds
+     */
+    void apiCallCompleted(String method, String path, int statusCode, long durationNanos);
+}
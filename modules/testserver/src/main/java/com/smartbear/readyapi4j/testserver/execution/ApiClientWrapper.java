@@ -3,10 +3,13 @@ package com.smartbear.readyapi4j.testserver.execution;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.joda.JodaModule;
+import com.smartbear.readyapi4j.support.FlightRecorderEvents;
+import com.smartbear.readyapi4j.support.FlightRecorderEvents.Phase;
 import com.sun.jersey.api.client.Client;
 import com.sun.jersey.api.client.ClientResponse;
 import com.sun.jersey.api.client.GenericType;
@@ -30,6 +33,8 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
@@ -38,6 +43,9 @@ import java.security.cert.X509Certificate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Most of this code is auto generated, with additional code for accepting self-signed server certificates.
@@ -46,7 +54,24 @@ public class ApiClientWrapper extends ApiClient {
 
     private static final Logger logger = LoggerFactory.getLogger(ApiClientWrapper.class);
 
+    // Readers and writers are immutable and keep the serializer caches of their mapper, so they are shared by all
+    // API calls instead of configuring a new mapper for each request and response
+    private static final ObjectMapper READER_MAPPER = createObjectMapper();
+    private static final ObjectMapper WRITER_MAPPER = createObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+    private static final ConcurrentMap<Type, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
     private Client client;
+    private final List<ApiCallListener> apiCallListeners = new CopyOnWriteArrayList<>();
+
+    public void addApiCallListener(ApiCallListener listener) {
+        apiCallListeners.add(listener);
+    }
+
+    public void removeApiCallListener(ApiCallListener listener) {
+        apiCallListeners.remove(listener);
+    }
 
     public <T> T invokeAPI(String path, String method, List<Pair> queryParams, Object body, Map<String, File> formParams, String accept, String contentType, String[] authNames, GenericType<T> returnType) throws ApiException {
         Map<String, String> headerParams = new HashMap<>();
@@ -84,33 +109,48 @@ public class ApiClientWrapper extends ApiClient {
         }
 
         ClientResponse response;
-
-        if ("GET".equals(method)) {
-            response = builder.get(ClientResponse.class);
-        } else if ("POST".equals(method)) {
-            if (requestBody == null) {
-                response = builder.post(ClientResponse.class, null);
-            } else if (requestBody instanceof FormDataMultiPart) {
-                response = builder.type(contentType).post(ClientResponse.class, requestBody);
-            } else {
-                response = builder.type(contentType).post(ClientResponse.class, serialize(requestBody, contentType));
-            }
-        } else if ("PUT".equals(method)) {
-            if (requestBody == null) {
-                response = builder.put(ClientResponse.class, serialize(requestBody, contentType));
-            } else {
-                response = builder.type(contentType).put(ClientResponse.class, serialize(requestBody, contentType));
-            }
-        } else if ("DELETE".equals(method)) {
-            if (requestBody == null) {
-                response = builder.delete(ClientResponse.class);
+        long startTime = System.nanoTime();
+        try (FlightRecorderEvents.Span ignored = FlightRecorderEvents.begin(Phase.API_CALL, null, null,
+                method + " " + path)) {
+            if ("GET".equals(method)) {
+                response = builder.get(ClientResponse.class);
+            } else if ("POST".equals(method)) {
+                if (requestBody == null) {
+                    response = builder.post(ClientResponse.class, null);
+                } else if (requestBody instanceof FormDataMultiPart) {
+                    response = builder.type(contentType).post(ClientResponse.class, requestBody);
+                } else {
+                    response = builder.type(contentType).post(ClientResponse.class, serializeToBytes(requestBody, contentType));
+                }
+            } else if ("PUT".equals(method)) {
+                if (requestBody == null) {
+                    response = builder.put(ClientResponse.class, serializeToBytes(requestBody, contentType));
+                } else {
+                    response = builder.type(contentType).put(ClientResponse.class, serializeToBytes(requestBody, contentType));
+                }
+            } else if ("DELETE".equals(method)) {
+                if (requestBody == null) {
+                    response = builder.delete(ClientResponse.class);
+                } else {
+                    response = builder.type(contentType).delete(ClientResponse.class, serializeToBytes(requestBody, contentType));
+                }
             } else {
-                response = builder.type(contentType).delete(ClientResponse.class, serialize(requestBody, contentType));
+                throw new ApiException(500, "unknown method type " + method);
             }
-        } else {
-            throw new ApiException(500, "unknown method type " + method);
+        } catch (RuntimeException e) {
+            notifyApiCallCompleted(method, path, 0, System.nanoTime() - startTime);
+            throw e;
         }
+        notifyApiCallCompleted(method, path, response.getStatus(), System.nanoTime() - startTime);
+
+        return readResponse(response, returnType);
+    }
+
+    /**
+     * Package-scoped so that responses can be tested without a TestServer
+     */
 
+    <T> T readResponse(ClientResponse response, GenericType<T> returnType) throws ApiException {
         if (response.getStatusInfo() == ClientResponse.Status.NO_CONTENT) {
             return null;
         } else if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
@@ -128,6 +168,16 @@ public class ApiClientWrapper extends ApiClient {
         }
     }
 
+    private void notifyApiCallCompleted(String method, String path, int statusCode, long durationNanos) {
+        for (ApiCallListener listener : apiCallListeners) {
+            try {
+                listener.apiCallCompleted(method, path, statusCode, durationNanos);
+            } catch (RuntimeException e) {
+                logger.error("ApiCallListener failed", e);
+            }
+        }
+    }
+
     private String createQueryString(List<Pair> queryParams) {
         StringBuilder builder = new StringBuilder("?");
         if (queryParams != null) {
@@ -168,10 +218,10 @@ public class ApiClientWrapper extends ApiClient {
     public Object serialize(Object obj, String contentType) throws ApiException {
         try {
             if (contentType.startsWith("application/json") && !(obj instanceof byte[])) {
-                ObjectMapper mapper = getObjectMapper();
-                mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-                mapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
-                return mapper.writeValueAsString(obj);
+                try (FlightRecorderEvents.Span ignored = FlightRecorderEvents.begin(Phase.RECIPE_SERIALIZATION,
+                        null, null)) {
+                    return getWriter(obj).writeValueAsString(obj);
+                }
             } else {
                 return obj;
             }
@@ -180,8 +230,47 @@ public class ApiClientWrapper extends ApiClient {
         }
     }
 
+    /**
+     * Like {@link #serialize(Object, String)}, but writes JSON straight to UTF-8 bytes for the request entity
+     */
+    private Object serializeToBytes(Object obj, String contentType) throws ApiException {
+        if (!contentType.startsWith("application/json") || obj instanceof byte[]) {
+            return obj;
+        }
+        try (FlightRecorderEvents.Span ignored = FlightRecorderEvents.begin(Phase.RECIPE_SERIALIZATION,
+                null, null)) {
+            return getWriter(obj).writeValueAsBytes(obj);
+        } catch (JsonProcessingException e) {
+            throw new ApiException(400, "can not serialize object into Content-Type: " + contentType);
+        }
+    }
+
+    private static ObjectWriter getWriter(Object obj) {
+        if (obj == null) {
+            return WRITER_MAPPER.writer();
+        }
+        // Java 8's computeIfAbsent locks even when the writer is already there
+        ObjectWriter writer = WRITERS.get(obj.getClass());
+        if (writer == null) {
+            writer = WRITERS.computeIfAbsent(obj.getClass(), WRITER_MAPPER::writerFor);
+        }
+        return writer;
+    }
+
+    private static ObjectReader getReader(Type type) {
+        ObjectReader reader = READERS.get(type);
+        if (reader == null) {
+            reader = READERS.computeIfAbsent(type, t -> READER_MAPPER.readerFor(READER_MAPPER.constructType(t)));
+        }
+        return reader;
+    }
+
     @Override
     public ObjectMapper getObjectMapper() {
+        return createObjectMapper();
+    }
+
+    private static ObjectMapper createObjectMapper() {
         ObjectMapper mapper = new ObjectMapper();
         mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
@@ -209,23 +298,28 @@ public class ApiClientWrapper extends ApiClient {
             throw new ApiException(500, "missing Content-Type in response");
         }
 
-        String body = "";
-        if (response.hasEntity()) {
-            body = response.getEntity(String.class);
+        if (!contentType.startsWith("application/json")) {
+            throw new ApiException(500, "can not deserialize Content-Type: " + contentType);
         }
-
-        if (contentType.startsWith("application/json")) {
+        if (returnType.getType().equals(String.class)) {
+            // the raw body is the fallback for strings, so it has to be read as text
+            String body = response.hasEntity() ? response.getEntity(String.class) : "";
             return deserialize(returnType, body);
-        } else {
-            throw new ApiException(500, "can not deserialize Content-Type: " + contentType);
+        }
+        if (!response.hasEntity()) {
+            return deserialize(returnType, "");
+        }
+        try (InputStream body = response.getEntityInputStream()) {
+            return getReader(returnType.getType()).readValue(body);
+        } catch (IOException e) {
+            logger.error("Failed to deserialize response body.", e);
+            throw new ApiException(500, e.getMessage());
         }
     }
 
     private <T> T deserialize(GenericType<T> returnType, String body) throws ApiException {
-        ObjectMapper mapper = getObjectMapper();
-        JavaType javaType = mapper.constructType(returnType.getType());
         try {
-            return mapper.readValue(body, javaType);
+            return getReader(returnType.getType()).readValue(body);
         } catch (IOException e) {
             logger.error("Failed to deserialize response body.", e);
             if (returnType.getType().equals(String.class)) {
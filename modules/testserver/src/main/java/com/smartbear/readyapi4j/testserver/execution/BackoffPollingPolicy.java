@@ -0,0 +1,121 @@
+package com.smartbear.readyapi4j.testserver.execution;
+
+import com.smartbear.readyapi.client.model.ProjectResultReport;
+import com.smartbear.readyapi.client.model.TestCaseResultReport;
+import com.smartbear.readyapi.client.model.TestStepResultReport;
+import com.smartbear.readyapi.client.model.TestSuiteResultReport;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StatusPollingPolicy that checks the status of a new execution quickly and then backs off exponentially up
+ * to a maximum delay, so that short executions finish with little latency while long executions are polled
+ * rarely. If step time hints are enabled, the next check is never scheduled before the average time taken by the
+ * most recently finished test steps (capped by the maximum delay), since the next step is unlikely to finish any
+ * sooner.
+ * <p>
+ * Policies are immutable, so one policy can be shared by all executions.</p>
+ */
+
+public class BackoffPollingPolicy implements StatusPollingPolicy {
+    public static final long DEFAULT_INITIAL_DELAY = 50;
+    public static final double DEFAULT_MULTIPLIER = 2;
+    public static final long DEFAULT_MAX_DELAY = 2000;
+    // the number of most recently finished test steps the step time hint is based on
+    static final int STEP_TIME_SAMPLE_SIZE = 10;
+
+    private final long initialDelay;
+    private final double multiplier;
+    private final long maxDelay;
+    private final boolean useStepTimeHint;
+
+    /**
+     * Creates a policy with a 50 ms initial delay that doubles up to 2 seconds
+     */
+
+    public BackoffPollingPolicy() {
+        this(DEFAULT_INITIAL_DELAY, DEFAULT_MULTIPLIER, DEFAULT_MAX_DELAY, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param initialDelay the delay before the first status check
+     * @param multiplier   the factor by which the delay grows after each status check
+     * @param maxDelay     the maximum delay between two status checks
+     * @param unit         the time unit of the delays
+     */
+
+    public BackoffPollingPolicy(long initialDelay, double multiplier, long maxDelay, TimeUnit unit) {
+        this(initialDelay, multiplier, maxDelay, unit, true);
+    }
+
+    /**
+     * @param initialDelay    the delay before the first status check
+     * @param multiplier      the factor by which the delay grows after each status check
+     * @param maxDelay        the maximum delay between two status checks
+     * @param unit            the time unit of the delays
+     * @param useStepTimeHint if the time taken by finished test steps should be used to delay the next status check
+     */
+
+    public BackoffPollingPolicy(long initialDelay, double multiplier, long maxDelay, TimeUnit unit,
+                                boolean useStepTimeHint) {
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("Multiplier must be at least 1, was " + multiplier);
+        }
+        this.initialDelay = unit.toMillis(initialDelay);
+        this.multiplier = multiplier;
+        this.maxDelay = Math.max(this.initialDelay, unit.toMillis(maxDelay));
+        this.useStepTimeHint = useStepTimeHint;
+    }
+
+    /**
+     * @param useStepTimeHint if the time taken by finished test steps should be used to delay the next status check
+     * @return a new policy with the same delays
+     */
+
+    public BackoffPollingPolicy withStepTimeHint(boolean useStepTimeHint) {
+        return new BackoffPollingPolicy(initialDelay, multiplier, maxDelay, TimeUnit.MILLISECONDS, useStepTimeHint);
+    }
+
+    @Override
+    public long getInitialDelay() {
+        return initialDelay;
+    }
+
+    @Override
+    public long getNextDelay(int pollCount, ProjectResultReport lastReport) {
+        long delay = (long) Math.min(maxDelay, initialDelay * Math.pow(multiplier, pollCount));
+        if (useStepTimeHint && lastReport != null) {
+            delay = Math.max(delay, Math.min(maxDelay, getAverageStepTime(lastReport)));
+        }
+        return delay;
+    }
+
+    /**
+     * Averages the time of the last finished test steps only, walking the report backwards, so the cost of a status
+     * check does not grow with the number of steps a long data-driven execution has already run
+     */
+    private long getAverageStepTime(ProjectResultReport report) {
+        List<TestSuiteResultReport> testSuiteReports = report.getTestSuiteResultReports();
+        if (testSuiteReports == null) {
+            return 0;
+        }
+
+        long totalTime = 0;
+        int stepCount = 0;
+        for (int i = testSuiteReports.size() - 1; i >= 0 && stepCount < STEP_TIME_SAMPLE_SIZE; i--) {
+            List<TestCaseResultReport> testCaseReports = testSuiteReports.get(i).getTestCaseResultReports();
+            for (int j = testCaseReports.size() - 1; j >= 0 && stepCount < STEP_TIME_SAMPLE_SIZE; j--) {
+                List<TestStepResultReport> testStepReports = testCaseReports.get(j).getTestStepResultReports();
+                for (int k = testStepReports.size() - 1; k >= 0 && stepCount < STEP_TIME_SAMPLE_SIZE; k--) {
+                    Long timeTaken = testStepReports.get(k).getTimeTaken();
+                    if (timeTaken != null) {
+                        totalTime += timeTaken;
+                        stepCount++;
+                    }
+                }
+            }
+        }
+        return stepCount == 0 ? 0 : totalTime / stepCount;
+    }
+}
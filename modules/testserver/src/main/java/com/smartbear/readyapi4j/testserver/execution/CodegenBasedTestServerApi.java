@@ -114,6 +114,11 @@ public class CodegenBasedTestServerApi implements TestServerApi {
         apiClient.setDebugging(debugging);
     }
 
+    @Override
+    public void addApiCallListener(ApiCallListener listener) {
+        apiClient.addApiCallListener(listener);
+    }
+
     private ApiClientWrapper getApiClient() {
         return apiClient;
     }
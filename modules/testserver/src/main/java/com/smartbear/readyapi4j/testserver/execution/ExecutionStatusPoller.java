@@ -0,0 +1,146 @@
+package com.smartbear.readyapi4j.testserver.execution;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scheduler for polling the status of asynchronous TestServer executions. All pending executions are multiplexed
+ * on a small pool of daemon threads, so the number of threads does not grow with the number of executions.
+ * <p>
+ * A single default instance is shared by all TestServerClients unless another one is set with
+ * {@link TestServerClient#withStatusPoller(ExecutionStatusPoller)}.</p>
+ */
+
+public class ExecutionStatusPoller {
+    public static final int DEFAULT_POOL_SIZE = 2;
+
+    private static final AtomicInteger pollerCounter = new AtomicInteger();
+    private static final ExecutionStatusPoller defaultPoller = new ExecutionStatusPoller(DEFAULT_POOL_SIZE);
+
+    private final ScheduledThreadPoolExecutor scheduler;
+    // checks that are waiting for their next poll; a check is owned by whoever removes it from this set
+    private final Set<StatusCheck> scheduledChecks = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger pendingExecutions = new AtomicInteger();
+    private final AtomicLong statusRequests = new AtomicLong();
+
+    /**
+     * Creates a poller with its own thread pool
+     *
+     * @param poolSize the number of threads used for sending status requests
+     */
+
+    public ExecutionStatusPoller(int poolSize) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1, was " + poolSize);
+        }
+
+        int pollerNumber = pollerCounter.incrementAndGet();
+        AtomicInteger threadCounter = new AtomicInteger();
+        scheduler = new ScheduledThreadPoolExecutor(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "readyapi4j-status-poller-" + pollerNumber + "-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * @return the poller shared by all TestServerClients by default
+     */
+
+    public static ExecutionStatusPoller getDefault() {
+        return defaultPoller;
+    }
+
+    /**
+     * @return the scheduled poll, or null if the poller was shut down meanwhile and has already notified the check
+     */
+    ScheduledFuture<?> schedule(StatusCheck check, long delay, TimeUnit unit) {
+        scheduledChecks.add(check);
+        try {
+            return scheduler.schedule(() -> {
+                if (scheduledChecks.remove(check)) {
+                    check.run();
+                }
+            }, delay, unit);
+        } catch (RuntimeException e) {
+            if (!scheduledChecks.remove(check)) {
+                // a concurrent shutdown has already failed the execution
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    void executionStarted() {
+        pendingExecutions.incrementAndGet();
+    }
+
+    void executionFinished() {
+        pendingExecutions.decrementAndGet();
+    }
+
+    void statusRequested() {
+        statusRequests.incrementAndGet();
+    }
+
+    /**
+     * @return the number of executions whose status is currently being polled
+     */
+
+    public int getPendingExecutionCount() {
+        return pendingExecutions.get();
+    }
+
+    /**
+     * @return the total number of status requests sent by this poller
+     */
+
+    public long getStatusRequestCount() {
+        return statusRequests.get();
+    }
+
+    /**
+     * @return the number of threads currently used by this poller
+     */
+
+    public int getThreadCount() {
+        return scheduler.getPoolSize();
+    }
+
+    /**
+     * Stops this poller; executions that are still pending will no longer be polled, and fail with a
+     * RecipeExecutionException. The default poller is shared by all TestServerClients in the JVM and can not be shut
+     * down.
+     *
+     * @throws IllegalStateException if this is the default poller
+     */
+
+    public void shutdown() {
+        if (this == defaultPoller) {
+            throw new IllegalStateException("The default status poller is shared and can not be shut down");
+        }
+        scheduler.shutdownNow();
+        for (StatusCheck check : scheduledChecks) {
+            if (scheduledChecks.remove(check)) {
+                check.pollerShutDown();
+            }
+        }
+    }
+
+    /**
+     * The status check of a single execution, scheduled again after every poll until the execution has finished
+     */
+    interface StatusCheck extends Runnable {
+
+        /**
+         * Called instead of the next poll when the poller has been shut down, so that the execution can fail
+         */
+        void pollerShutDown();
+    }
+}
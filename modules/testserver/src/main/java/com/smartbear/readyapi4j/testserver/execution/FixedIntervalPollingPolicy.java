@@ -0,0 +1,29 @@
+package com.smartbear.readyapi4j.testserver.execution;
+
+import com.smartbear.readyapi.client.model.ProjectResultReport;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StatusPollingPolicy that checks the execution status at a fixed interval
+ */
+
+public class FixedIntervalPollingPolicy implements StatusPollingPolicy {
+    private final long initialDelay;
+    private final long interval;
+
+    public FixedIntervalPollingPolicy(long initialDelay, long interval, TimeUnit unit) {
+        this.initialDelay = unit.toMillis(initialDelay);
+        this.interval = unit.toMillis(interval);
+    }
+
+    @Override
+    public long getInitialDelay() {
+        return initialDelay;
+    }
+
+    @Override
+    public long getNextDelay(int pollCount, ProjectResultReport lastReport) {
+        return interval;
+    }
+}
@@ -25,7 +25,7 @@ public class ProjectExecutor extends AbstractTestServerExecutor {
     }
 
     public Execution executeRepositoryProject(RepositoryProjectExecutionRequest executionRequest) {
-        Execution execution = doExecuteProjectFromRepository(executionRequest, false);
+        TestServerExecution execution = doExecuteProjectFromRepository(executionRequest, false);
         notifyExecutionFinished(execution);
         return execution;
     }
@@ -97,7 +97,7 @@ public class ProjectExecutor extends AbstractTestServerExecutor {
      */
 
     public Execution executeProject(ProjectExecutionRequest projectExecutionRequest) {
-        Execution execution = doExecuteProject(projectExecutionRequest, false);
+        TestServerExecution execution = doExecuteProject(projectExecutionRequest, false);
         notifyExecutionFinished(execution);
         return execution;
     }
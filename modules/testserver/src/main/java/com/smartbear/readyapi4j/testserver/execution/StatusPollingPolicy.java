@@ -0,0 +1,24 @@
+package com.smartbear.readyapi4j.testserver.execution;
+
+import com.smartbear.readyapi.client.model.ProjectResultReport;
+
+/**
+ * Decides how often the status of an asynchronous TestServer execution is checked.
+ *
+ * @see TestServerClient#withStatusPollingPolicy(StatusPollingPolicy)
+ */
+
+public interface StatusPollingPolicy {
+
+    /**
+     * @return the delay in milliseconds before the first status check of an execution
+     */
+    long getInitialDelay();
+
+    /**
+     * @param pollCount  the number of status checks made so far for the execution
+     * @param lastReport the report returned by the latest status check
+     * @return the delay in milliseconds before the next status check
+     */
+    long getNextDelay(int pollCount, ProjectResultReport lastReport);
+}
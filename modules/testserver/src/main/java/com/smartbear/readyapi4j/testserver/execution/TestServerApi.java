@@ -68,4 +68,11 @@ public interface TestServerApi {
     ProjectResultReport postTestRecipe(TestRecipe testRecipe, boolean async, HttpBasicAuth auth) throws ApiException;
 
     void setConnectTimeout(int connectionTimeout);
+
+    /**
+     * Adds a listener that is notified of every HTTP call made by this API; ignored by implementations that don't
+     * make HTTP calls
+     */
+    default void addApiCallListener(ApiCallListener listener) {
+    }
 }
@@ -5,6 +5,7 @@ import com.smartbear.readyapi.client.model.ProjectResultReport;
 import com.smartbear.readyapi.client.model.ProjectResultReports;
 import com.smartbear.readyapi4j.TestRecipe;
 import com.smartbear.readyapi4j.execution.Execution;
+import com.smartbear.readyapi4j.result.HarCapturePolicy;
 import io.swagger.client.auth.HttpBasicAuth;
 
 import java.io.File;
@@ -12,6 +13,8 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Main class for invoking a Ready! API TestServer instance
@@ -31,6 +34,15 @@ public class TestServerClient {
 
     private HttpBasicAuth authentication;
 
+    private ExecutionStatusPoller statusPoller = ExecutionStatusPoller.getDefault();
+
+    private StatusPollingPolicy statusPollingPolicy = new BackoffPollingPolicy();
+
+    private HarCapturePolicy harCapturePolicy = HarCapturePolicy.full();
+
+    private int statusHistorySize = TestServerExecution.DEFAULT_STATUS_HISTORY_SIZE;
+
+    private Executor extractionExecutor;
 
     /**
      * Creates a TestServerClient for a TestServer instance at the specified endpoint
@@ -144,33 +156,131 @@ public class TestServerClient {
         return this;
     }
 
+    /**
+     * Sets the poller used to check the status of asynchronous executions; by default a poller shared by all
+     * clients is used
+     */
+
+    public TestServerClient withStatusPoller(ExecutionStatusPoller statusPoller) {
+        this.statusPoller = statusPoller;
+        return this;
+    }
+
+    /**
+     * Sets how often the status of asynchronous executions is checked; by default a {@link BackoffPollingPolicy}
+     * is used
+     */
+
+    public TestServerClient withStatusPollingPolicy(StatusPollingPolicy statusPollingPolicy) {
+        this.statusPollingPolicy = statusPollingPolicy;
+        return this;
+    }
+
+    /**
+     * Makes the status of asynchronous executions be checked at a fixed interval
+     *
+     * @param initialDelay the delay before the first status check
+     * @param interval the delay between subsequent status checks
+     * @param unit the time unit of the delays
+     */
+
+    public TestServerClient withStatusPollInterval(long initialDelay, long interval, TimeUnit unit) {
+        return withStatusPollingPolicy(new FixedIntervalPollingPolicy(initialDelay, interval, unit));
+    }
+
+    /**
+     * Sets how much of their HTTP transactions the test step results of executions return as HAR entries; by
+     * default complete entries are returned for all test steps
+     */
+
+    public TestServerClient withHarCapturePolicy(HarCapturePolicy harCapturePolicy) {
+        this.harCapturePolicy = harCapturePolicy;
+        return this;
+    }
+
+    /**
+     * Sets how many of the most recently received status reports executions keep, see
+     * {@link TestServerExecution#getStatusHistory()}; by default only the current report is kept
+     *
+     * @param statusHistorySize the number of most recent reports to keep, at least 1
+     */
+
+    public TestServerClient withStatusHistorySize(int statusHistorySize) {
+        if (statusHistorySize < 1) {
+            throw new IllegalArgumentException("Status history size must be at least 1: " + statusHistorySize);
+        }
+        this.statusHistorySize = statusHistorySize;
+        return this;
+    }
+
+    /**
+     * Sets the executor that the client side extractors of the test steps of finished executions run on, concurrently
+     * for different test steps; by default
+     * {@link com.smartbear.readyapi4j.execution.DataExtractors#defaultExtractionExecutor()} is used
+     */
+
+    public TestServerClient withExtractionExecutor(Executor extractionExecutor) {
+        this.extractionExecutor = extractionExecutor;
+        return this;
+    }
+
+    /**
+     * Adds a listener that is notified of every HTTP call made to the TestServer, for example to measure latencies
+     */
+
+    public TestServerClient withApiCallListener(ApiCallListener listener) {
+        apiStub.addApiCallListener(listener);
+        return this;
+    }
+
+    /**
+     * @return the poller used to check the status of asynchronous executions
+     */
+
+    public ExecutionStatusPoller getStatusPoller() {
+        return statusPoller;
+    }
+
+    StatusPollingPolicy getStatusPollingPolicy() {
+        return statusPollingPolicy;
+    }
+
+    Executor getExtractionExecutor() {
+        return extractionExecutor;
+    }
+
     protected String getBaseUrl() {
         return baseUrl;
     }
 
+    private TestServerExecution newExecution(ProjectResultReport projectResultReport) {
+        return new TestServerExecution(apiStub, authentication, projectResultReport, harCapturePolicy)
+                .withStatusHistorySize(statusHistorySize);
+    }
+
     TestServerExecution postTestRecipe(TestRecipe testRecipe, boolean async) {
         ProjectResultReport projectResultReport = apiStub.postTestRecipe(testRecipe, async, authentication);
-        return new TestServerExecution(apiStub, authentication, projectResultReport);
+        return newExecution(projectResultReport);
     }
 
     TestServerExecution postProject(ProjectExecutionRequest projectExecutionRequest, boolean async) {
         ProjectResultReport projectResultReport = apiStub.postProject(projectExecutionRequest, async, authentication);
-        return new TestServerExecution(apiStub, authentication, projectResultReport);
+        return newExecution(projectResultReport);
     }
 
     TestServerExecution postRepositoryProject(RepositoryProjectExecutionRequest executionRequest, boolean async) {
         ProjectResultReport projectResultReport = apiStub.postRepositoryProject(executionRequest, async, authentication);
-        return new TestServerExecution(apiStub, authentication, projectResultReport);
+        return newExecution(projectResultReport);
     }
 
     Execution postSwagger(File swaggerFile, SwaggerApiValidator.SwaggerFormat swaggerFormat, String callBackUrl, String endpoint, boolean async) {
         ProjectResultReport projectResultReport = apiStub.postSwagger(swaggerFile, swaggerFormat, endpoint, callBackUrl, true, authentication);
-        return new TestServerExecution(apiStub, authentication, projectResultReport);
+        return newExecution(projectResultReport);
     }
 
     Execution postSwagger(URL swaggerApiURL, String endpoint, String callBackUrl, boolean async) {
         ProjectResultReport projectResultReport = apiStub.postSwagger(swaggerApiURL, endpoint, callBackUrl, true, authentication);
-        return new TestServerExecution(apiStub, authentication, projectResultReport);
+        return newExecution(projectResultReport);
     }
 
     ProjectResultReport getExecutionStatus(String executionId) {
@@ -214,7 +324,7 @@ public class TestServerClient {
         List<Execution> executions = new ArrayList<>();
         ProjectResultReports projectResultReport = apiStub.getExecutions(authentication);
         for (ProjectResultReport resultReport : projectResultReport.getProjectResultReports()) {
-            executions.add(new TestServerExecution(apiStub, authentication, resultReport));
+            executions.add(newExecution(resultReport));
         }
         return executions;
     }
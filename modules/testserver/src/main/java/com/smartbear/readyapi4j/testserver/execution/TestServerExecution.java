@@ -6,32 +6,59 @@ import com.smartbear.readyapi.client.model.TestCaseResultReport;
 import com.smartbear.readyapi.client.model.TestStepResultReport;
 import com.smartbear.readyapi.client.model.TestSuiteResultReport;
 import com.smartbear.readyapi4j.execution.Execution;
+import com.smartbear.readyapi4j.result.HarCapturePolicy;
 import com.smartbear.readyapi4j.result.RecipeExecutionResult;
+import com.smartbear.readyapi4j.result.TestStepResult;
 import io.swagger.client.auth.HttpBasicAuth;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class corresponding to an execution on a TestServer instance. The execution can be either ongoing or completed.
  */
 
 public class TestServerExecution implements Execution {
-    private final Deque<ProjectResultReport> executionStatusReports = new ConcurrentLinkedDeque<>();
+    static final int DEFAULT_STATUS_HISTORY_SIZE = 1;
+
+    // only the latest reports are kept, so that long running executions do not accumulate a report per status poll
+    private final Deque<ProjectResultReport> statusHistory = new ArrayDeque<>();
+    private volatile ProjectResultReport currentReport;
+    private volatile int statusHistorySize = DEFAULT_STATUS_HISTORY_SIZE;
     private final String id;
     private final TestServerApi testServerApi;
     private final HttpBasicAuth auth;
+    private final CompletableFuture<Execution> completion = new CompletableFuture<>();
+    private final HarCapturePolicy harCapturePolicy;
+    private int reportedTestStepCount;
+    private volatile ExecutionResultForReport executionResult;
+    private volatile String recipeName;
 
     /**
      * Package-scoped constructor since this class should only be created by executors or tests
      */
 
     TestServerExecution(TestServerApi testServerApi, HttpBasicAuth auth, ProjectResultReport projectResultReport) {
+        this(testServerApi, auth, projectResultReport, HarCapturePolicy.full());
+    }
+
+    TestServerExecution(TestServerApi testServerApi, HttpBasicAuth auth, ProjectResultReport projectResultReport,
+                        HarCapturePolicy harCapturePolicy) {
         this.testServerApi = testServerApi;
         this.auth = auth;
-        executionStatusReports.add(projectResultReport);
+        this.harCapturePolicy = harCapturePolicy;
+        addResultReport(projectResultReport);
         this.id = projectResultReport.getExecutionID();
+        completion.whenComplete((execution, throwable) -> {
+            if (throwable instanceof CancellationException) {
+                cancelExecution();
+            }
+        });
     }
 
     @Override
@@ -41,12 +68,49 @@ public class TestServerExecution implements Execution {
 
     @Override
     public ProjectResultReport.StatusEnum getCurrentStatus() {
-        return executionStatusReports.getLast().getStatus();
+        return currentReport.getStatus();
     }
 
     @Override
     public ProjectResultReport getCurrentReport() {
-        return executionStatusReports.getLast();
+        return currentReport;
+    }
+
+    /**
+     * @return the most recently received reports, oldest first and ending with the current report; by default only
+     * the current report is kept
+     * @see TestServerClient#withStatusHistorySize(int)
+     */
+    public List<ProjectResultReport> getStatusHistory() {
+        synchronized (statusHistory) {
+            return new ArrayList<>(statusHistory);
+        }
+    }
+
+    /**
+     * @param statusHistorySize the number of most recent reports to keep, at least 1
+     */
+    TestServerExecution withStatusHistorySize(int statusHistorySize) {
+        if (statusHistorySize < 1) {
+            throw new IllegalArgumentException("Status history size must be at least 1: " + statusHistorySize);
+        }
+        this.statusHistorySize = statusHistorySize;
+        synchronized (statusHistory) {
+            trimStatusHistory();
+        }
+        return this;
+    }
+
+    /**
+     * @return the name of the executed recipe, or null if it was not executed from a recipe
+     */
+    String getRecipeName() {
+        return recipeName;
+    }
+
+    TestServerExecution withRecipeName(String recipeName) {
+        this.recipeName = recipeName;
+        return this;
     }
 
     TestServerApi getTestServerApi() {
@@ -57,22 +121,71 @@ public class TestServerExecution implements Execution {
         return auth;
     }
 
+    HarCapturePolicy getHarCapturePolicy() {
+        return harCapturePolicy;
+    }
+
     void addResultReport(ProjectResultReport newReport) {
-        executionStatusReports.add(newReport);
+        synchronized (statusHistory) {
+            statusHistory.add(newReport);
+            trimStatusHistory();
+            currentReport = newReport;
+        }
+    }
+
+    private void trimStatusHistory() {
+        while (statusHistory.size() > statusHistorySize) {
+            statusHistory.removeFirst();
+        }
+    }
+
+    /**
+     * Diffs the current report against the step results returned by previous calls; relies on TestServer
+     * appending new step results to the reports of later status polls
+     *
+     * @return the test step results that have been added since the last call
+     */
+    synchronized List<TestStepResult> getNewTestStepResults() {
+        List<TestStepResult> testStepResults = getExecutionResult().getTestStepResults();
+        if (testStepResults.size() <= reportedTestStepCount) {
+            return Collections.emptyList();
+        }
+        List<TestStepResult> newTestStepResults = testStepResults.subList(reportedTestStepCount, testStepResults.size());
+        reportedTestStepCount = testStepResults.size();
+        return newTestStepResults;
+    }
+
+    /**
+     * @return a future that is completed with this execution when it has finished
+     */
+    CompletableFuture<Execution> getCompletion() {
+        return completion;
     }
 
+    /**
+     * @return the result for the current report; the same result is returned until a newer report is received
+     */
     @Override
     public RecipeExecutionResult getExecutionResult() {
-        ProjectResultReport lastReport = executionStatusReports.getLast();
-        return lastReport == null ? null : new TestServerRecipeExecutionResult(this, getCurrentReport());
+        ProjectResultReport lastReport = currentReport;
+        if (lastReport == null) {
+            return null;
+        }
+        ExecutionResultForReport cached = executionResult;
+        if (cached == null || cached.report != lastReport) {
+            cached = new ExecutionResultForReport(lastReport, new TestServerRecipeExecutionResult(this, lastReport));
+            executionResult = cached;
+        }
+        return cached.result;
     }
 
     @Override
     public List<String> getErrorMessages() {
         List<String> result = Lists.newArrayList();
 
-        if (executionStatusReports.getLast() != null) {
-            for (TestSuiteResultReport testSuiteReport : executionStatusReports.getLast().getTestSuiteResultReports()) {
+        ProjectResultReport lastReport = currentReport;
+        if (lastReport != null) {
+            for (TestSuiteResultReport testSuiteReport : lastReport.getTestSuiteResultReports()) {
                 for (TestCaseResultReport testCaseResultReport : testSuiteReport.getTestCaseResultReports()) {
                     for (TestStepResultReport testStepResultReport : testCaseResultReport.getTestStepResultReports()) {
                         if (testStepResultReport.getAssertionStatus() == TestStepResultReport.AssertionStatusEnum.FAILED) {
@@ -92,4 +205,14 @@ public class TestServerExecution implements Execution {
     public void cancelExecution() {
         testServerApi.cancelExecution(id, auth);
     }
+
+    private static class ExecutionResultForReport {
+        private final ProjectResultReport report;
+        private final TestServerRecipeExecutionResult result;
+
+        ExecutionResultForReport(ProjectResultReport report, TestServerRecipeExecutionResult result) {
+            this.report = report;
+            this.result = result;
+        }
+    }
 }
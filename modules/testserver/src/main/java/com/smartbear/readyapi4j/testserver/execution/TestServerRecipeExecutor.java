@@ -6,11 +6,13 @@ import com.smartbear.readyapi4j.execution.ExecutionMode;
 import com.smartbear.readyapi4j.execution.RecipeExecutor;
 import com.smartbear.readyapi4j.execution.RecipeFilter;
 import com.smartbear.readyapi4j.extractor.ExtractorData;
+import com.smartbear.readyapi4j.support.FlightRecorderEvents;
+import com.smartbear.readyapi4j.support.FlightRecorderEvents.Phase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
@@ -51,6 +53,17 @@ public class TestServerRecipeExecutor extends AbstractTestServerExecutor impleme
         return execution;
     }
 
+    @Override
+    public CompletableFuture<Execution> submitRecipeAsync(TestRecipe recipe) {
+        try {
+            return submitRecipe(recipe).getCompletion();
+        } catch (RuntimeException e) {
+            CompletableFuture<Execution> failedExecution = new CompletableFuture<>();
+            failedExecution.completeExceptionally(e);
+            return failedExecution;
+        }
+    }
+
     @Override
     public TestServerExecution executeRecipe(TestRecipe recipe) {
         for (RecipeFilter recipeFilter : recipeFilters) {
@@ -64,10 +77,13 @@ public class TestServerRecipeExecutor extends AbstractTestServerExecutor impleme
 
     private TestServerExecution doExecuteTestCase(TestRecipe testRecipe, ExtractorData optionalExtractorData, boolean async)  {
         try {
-            Optional<ExtractorData> extractorDataOptional = Optional.ofNullable(optionalExtractorData);
-            extractorDataOptional.ifPresent(extractorData -> extractorDataList.add(extractorData));
-            TestServerExecution execution = testServerClient.postTestRecipe(testRecipe, async);
+            TestServerExecution execution;
+            try (FlightRecorderEvents.Span ignored = FlightRecorderEvents.begin(
+                    async ? Phase.RECIPE_SUBMISSION : Phase.RECIPE_EXECUTION, testRecipe.getName(), null)) {
+                execution = testServerClient.postTestRecipe(testRecipe, async).withRecipeName(testRecipe.getName());
+            }
             cancelExecutionAndThrowExceptionIfPendingDueToMissingClientCertificate(execution.getCurrentReport(), testRecipe.getTestCase());
+            registerExtractorData(execution, optionalExtractorData);
             return execution;
         } catch (ApiException e) {
             notifyErrorOccurred(e);
@@ -4,6 +4,7 @@ import com.smartbear.readyapi.client.model.HarEntry;
 import com.smartbear.readyapi.client.model.HarLogRoot;
 import com.smartbear.readyapi.client.model.TestStepResultReport;
 import com.smartbear.readyapi4j.result.AbstractTestStepResult;
+import com.smartbear.readyapi4j.result.HarCapturePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,13 +26,19 @@ public class TestServerTestStepResult extends AbstractTestStepResult {
     @Override
     public HarEntry getHarEntry() {
         if (harEntry == null && !hasCheckedForHarEntry) {
+            HarCapturePolicy capturePolicy = execution.getHarCapturePolicy();
+            if (!capturePolicy.isCaptured(testStepResultReport)) {
+                hasCheckedForHarEntry = true;
+                return null;
+            }
+
             HarLogRoot logRoot = null;
             try {
                 logRoot = execution.getTestServerApi().getTransactionLog(execution.getId(),
                     testStepResultReport.getTransactionId(), execution.getAuth());
 
                 if (hasHarEntry(logRoot)) {
-                    harEntry = logRoot.getLog().getEntries().get(0);
+                    harEntry = capturePolicy.apply(logRoot.getLog().getEntries().get(0));
                 }
             } catch (ApiException e) {
                 if (e.getStatusCode() != 404) {
@@ -0,0 +1,127 @@
+package com.smartbear.readyapi4j.testserver.execution;
+
+import com.smartbear.readyapi.client.model.ProjectResultReport;
+import com.smartbear.readyapi.client.model.TestCase;
+import com.sun.jersey.api.client.ClientResponse;
+import com.sun.jersey.api.client.GenericType;
+import com.sun.jersey.core.util.MultivaluedMapImpl;
+import org.junit.Test;
+
+import javax.ws.rs.core.MultivaluedMap;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ApiClientWrapperTest {
+    private final ApiClientWrapper apiClientWrapper = new ApiClientWrapper();
+
+    @Test
+    public void serializesJsonWithoutEmptyValues() throws Exception {
+        TestCase testCase = new TestCase();
+        testCase.setName("Recipe");
+        testCase.setTestSteps(new ArrayList<>());
+
+        String json = (String) apiClientWrapper.serialize(testCase, "application/json");
+
+        assertThat(json, containsString("\"name\":\"Recipe\""));
+        assertThat(json, not(containsString("testSteps")));
+        assertThat(apiClientWrapper.serialize(testCase, "application/json"), is(json));
+    }
+
+    @Test
+    public void leavesNonJsonContentAsIs() throws Exception {
+        byte[] content = new byte[]{1, 2, 3};
+
+        assertThat(apiClientWrapper.serialize(content, "application/json"), is(content));
+        assertThat(apiClientWrapper.serialize("text", "text/plain"), is("text"));
+    }
+
+    @Test
+    public void readsProjectResultReportFromEntityStream() throws Exception {
+        ClientResponse response = mockJsonResponse(ClientResponse.Status.OK,
+                "{\"executionID\":\"the_id\",\"status\":\"FINISHED\"}");
+
+        ProjectResultReport report = apiClientWrapper.readResponse(response, new GenericType<ProjectResultReport>() {
+        });
+
+        assertThat(report.getExecutionID(), is("the_id"));
+        assertThat(report.getStatus(), is(ProjectResultReport.StatusEnum.FINISHED));
+        verify(response, never()).getEntity(String.class);
+    }
+
+    @Test
+    public void returnsNullForNoContent() throws Exception {
+        ClientResponse response = mockJsonResponse(ClientResponse.Status.NO_CONTENT, null);
+
+        assertThat(apiClientWrapper.readResponse(response, new GenericType<ProjectResultReport>() {
+        }), is(nullValue()));
+    }
+
+    @Test
+    public void readsEmptyBodyAsEmptyString() throws Exception {
+        ClientResponse response = mockJsonResponse(ClientResponse.Status.OK, null);
+
+        assertThat(apiClientWrapper.readResponse(response, new GenericType<String>() {
+        }), is(""));
+    }
+
+    @Test
+    public void failsOnEmptyBodyForObjects() throws Exception {
+        ClientResponse response = mockJsonResponse(ClientResponse.Status.OK, null);
+
+        try {
+            apiClientWrapper.readResponse(response, new GenericType<ProjectResultReport>() {
+            });
+            fail("Expected empty body to fail");
+        } catch (ApiException e) {
+            assertThat(e.getStatusCode(), is(500));
+        }
+    }
+
+    @Test
+    public void readsStringsAsText() throws Exception {
+        assertThat(apiClientWrapper.readResponse(mockJsonResponse(ClientResponse.Status.OK, "\"quoted\""),
+                new GenericType<String>() {
+                }), is("quoted"));
+        assertThat(apiClientWrapper.readResponse(mockJsonResponse(ClientResponse.Status.OK, "not json"),
+                new GenericType<String>() {
+                }), is("not json"));
+    }
+
+    @Test
+    public void readsObjectsFromEntityStream() throws Exception {
+        Object value = apiClientWrapper.readResponse(mockJsonResponse(ClientResponse.Status.OK, "{\"count\":2}"),
+                new GenericType<Object>() {
+                });
+
+        assertThat(value, is(Collections.singletonMap("count", 2)));
+    }
+
+    private ClientResponse mockJsonResponse(ClientResponse.Status status, String body) {
+        MultivaluedMap<String, String> headers = new MultivaluedMapImpl();
+        headers.putSingle("Content-Type", "application/json");
+        ClientResponse response = mock(ClientResponse.class);
+        when(response.getStatusInfo()).thenReturn(status);
+        when(response.getStatus()).thenReturn(status.getStatusCode());
+        when(response.getHeaders()).thenReturn(headers);
+        when(response.hasEntity()).thenReturn(body != null);
+        if (body != null) {
+            when(response.getEntity(String.class)).thenReturn(body);
+            when(response.getEntityInputStream())
+                    .thenReturn(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        }
+        return response;
+    }
+}
@@ -0,0 +1,75 @@
+package com.smartbear.readyapi4j.testserver.execution;
+
+import com.smartbear.readyapi.client.model.ProjectResultReport;
+import com.smartbear.readyapi.client.model.TestCaseResultReport;
+import com.smartbear.readyapi.client.model.TestStepResultReport;
+import com.smartbear.readyapi.client.model.TestSuiteResultReport;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class BackoffPollingPolicyTest {
+
+    @Test
+    public void backsOffExponentiallyUpToMaxDelay() {
+        BackoffPollingPolicy policy = new BackoffPollingPolicy(20, 2, 500, TimeUnit.MILLISECONDS);
+        ProjectResultReport report = ExecutionTestHelper.makeRunningReport("id");
+
+        assertThat(policy.getInitialDelay(), is(20L));
+        assertThat(policy.getNextDelay(1, report), is(40L));
+        assertThat(policy.getNextDelay(2, report), is(80L));
+        assertThat(policy.getNextDelay(4, report), is(320L));
+        assertThat(policy.getNextDelay(5, report), is(500L));
+        assertThat(policy.getNextDelay(50, report), is(500L));
+    }
+
+    @Test
+    public void waitsForAverageStepTimeWhenHintIsEnabled() {
+        BackoffPollingPolicy policy = new BackoffPollingPolicy(20, 2, 500, TimeUnit.MILLISECONDS);
+        ProjectResultReport report = makeReportWithStepTimes(200L, 400L);
+
+        assertThat(policy.getNextDelay(1, report), is(300L));
+        assertThat(policy.withStepTimeHint(false).getNextDelay(1, report), is(40L));
+    }
+
+    @Test
+    public void basesStepTimeHintOnMostRecentSteps() {
+        BackoffPollingPolicy policy = new BackoffPollingPolicy(20, 2, 500, TimeUnit.MILLISECONDS);
+        Long[] stepTimes = new Long[BackoffPollingPolicy.STEP_TIME_SAMPLE_SIZE + 5];
+        Arrays.fill(stepTimes, 0, 5, 10000L);
+        Arrays.fill(stepTimes, 5, stepTimes.length, 100L);
+
+        assertThat(policy.getNextDelay(1, makeReportWithStepTimes(stepTimes)), is(100L));
+    }
+
+    @Test
+    public void capsStepTimeHintAtMaxDelay() {
+        BackoffPollingPolicy policy = new BackoffPollingPolicy(20, 2, 500, TimeUnit.MILLISECONDS);
+
+        assertThat(policy.getNextDelay(1, makeReportWithStepTimes(10000L)), is(500L));
+    }
+
+    private ProjectResultReport makeReportWithStepTimes(Long... stepTimes) {
+        List<TestStepResultReport> testStepResultReports = new ArrayList<>();
+        for (Long stepTime : stepTimes) {
+            TestStepResultReport testStepResultReport = new TestStepResultReport();
+            testStepResultReport.setTimeTaken(stepTime);
+            testStepResultReports.add(testStepResultReport);
+        }
+        TestCaseResultReport testCaseResultReport = new TestCaseResultReport();
+        testCaseResultReport.setTestStepResultReports(testStepResultReports);
+        TestSuiteResultReport testSuiteResultReport = new TestSuiteResultReport();
+        testSuiteResultReport.setTestCaseResultReports(Collections.singletonList(testCaseResultReport));
+
+        ProjectResultReport report = ExecutionTestHelper.makeRunningReport("id");
+        report.setTestSuiteResultReports(Collections.singletonList(testSuiteResultReport));
+        return report;
+    }
+}
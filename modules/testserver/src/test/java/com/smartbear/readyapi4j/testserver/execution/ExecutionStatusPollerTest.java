@@ -0,0 +1,110 @@
+package com.smartbear.readyapi4j.testserver.execution;
+
+import com.smartbear.readyapi.client.model.ProjectResultReport;
+import com.smartbear.readyapi.client.model.TestCase;
+import com.smartbear.readyapi4j.TestRecipe;
+import com.smartbear.readyapi4j.execution.Execution;
+import com.smartbear.readyapi4j.execution.RecipeExecutionException;
+import io.swagger.client.auth.HttpBasicAuth;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Load test for the shared ExecutionStatusPoller: the number of polling threads must stay the same
+ * regardless of the number of concurrent asynchronous executions.
+ */
+public class ExecutionStatusPollerTest extends ProjectExecutionTestBase {
+    private static final int POOL_SIZE = 2;
+    private static final int POLLS_PER_EXECUTION = 3;
+
+    private ExecutionStatusPoller poller;
+
+    @Before
+    public void setUpPoller() {
+        poller = new ExecutionStatusPoller(POOL_SIZE);
+        testServerClient.withStatusPoller(poller).withStatusPollInterval(10, 10, TimeUnit.MILLISECONDS);
+    }
+
+    @After
+    public void shutDownPoller() {
+        poller.shutdown();
+    }
+
+    @Test
+    public void threadCountStaysFlatAsConcurrencyGrows() throws Exception {
+        for (int concurrency : new int[]{10, 100, 500}) {
+            // stub all recipes before any polling starts, since Mockito stubbing is not thread safe
+            List<TestRecipe> recipes = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                recipes.add(mockRecipe(concurrency + "_" + i));
+            }
+            long statusRequestsBefore = poller.getStatusRequestCount();
+
+            List<CompletableFuture<Execution>> futures = new ArrayList<>();
+            for (TestRecipe recipe : recipes) {
+                futures.add(recipeExecutor.submitRecipeAsync(recipe));
+            }
+            assertTrue(poller.getThreadCount() <= POOL_SIZE);
+
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).get(60, TimeUnit.SECONDS);
+
+            assertTrue(poller.getThreadCount() <= POOL_SIZE);
+            assertThat(poller.getPendingExecutionCount(), is(0));
+            assertThat(poller.getStatusRequestCount() - statusRequestsBefore, is((long) concurrency * POLLS_PER_EXECUTION));
+            for (CompletableFuture<Execution> future : futures) {
+                assertThat(future.get().getCurrentStatus(), is(ProjectResultReport.StatusEnum.FINISHED));
+            }
+        }
+    }
+
+    @Test
+    public void failsPendingExecutionsWhenShutDown() throws Exception {
+        TestRecipe recipe = new TestRecipe(new TestCase());
+        when(apiWrapper.postTestRecipe(eq(recipe), eq(true), any(HttpBasicAuth.class)))
+                .thenReturn(ExecutionTestHelper.makeRunningReport("pending"));
+        testServerClient.withStatusPollInterval(60, 60, TimeUnit.SECONDS);
+
+        CompletableFuture<Execution> future = recipeExecutor.submitRecipeAsync(recipe);
+        assertThat(poller.getPendingExecutionCount(), is(1));
+        poller.shutdown();
+
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail("Expected pending execution to fail");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause() instanceof RecipeExecutionException, is(true));
+        }
+        assertThat(poller.getPendingExecutionCount(), is(0));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void refusesToShutDownDefaultPoller() {
+        ExecutionStatusPoller.getDefault().shutdown();
+    }
+
+    private TestRecipe mockRecipe(String executionId) {
+        TestRecipe recipe = new TestRecipe(new TestCase());
+        when(apiWrapper.postTestRecipe(eq(recipe), eq(true), any(HttpBasicAuth.class)))
+                .thenReturn(ExecutionTestHelper.makeRunningReport(executionId));
+        when(apiWrapper.getExecutionStatus(eq(executionId), any(HttpBasicAuth.class)))
+                .thenReturn(ExecutionTestHelper.makeRunningReport(executionId),
+                        ExecutionTestHelper.makeRunningReport(executionId),
+                        ExecutionTestHelper.makeFinishedReport(executionId));
+        return recipe;
+    }
+}
@@ -3,10 +3,14 @@ package com.smartbear.readyapi4j.testserver.execution;
 
 import com.smartbear.readyapi.client.model.ProjectResultReport;
 import com.smartbear.readyapi.client.model.ProjectResultReports;
+import com.smartbear.readyapi.client.model.TestCaseResultReport;
+import com.smartbear.readyapi.client.model.TestStepResultReport;
+import com.smartbear.readyapi.client.model.TestSuiteResultReport;
 import com.smartbear.readyapi.client.model.UnresolvedFile;
 import com.smartbear.readyapi4j.execution.Execution;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.Mockito.mock;
@@ -61,6 +65,21 @@ public class ExecutionTestHelper {
         return pendingReport;
     }
 
+    public static List<TestSuiteResultReport> makeTestSuiteResultReports(String... testStepNames) {
+        List<TestStepResultReport> testStepResultReports = new ArrayList<>();
+        for (String testStepName : testStepNames) {
+            TestStepResultReport testStepResultReport = new TestStepResultReport();
+            testStepResultReport.setTestStepName(testStepName);
+            testStepResultReport.setAssertionStatus(TestStepResultReport.AssertionStatusEnum.OK);
+            testStepResultReports.add(testStepResultReport);
+        }
+        TestCaseResultReport testCaseResultReport = new TestCaseResultReport();
+        testCaseResultReport.setTestStepResultReports(testStepResultReports);
+        TestSuiteResultReport testSuiteResultReport = new TestSuiteResultReport();
+        testSuiteResultReport.setTestCaseResultReports(Collections.singletonList(testCaseResultReport));
+        return Collections.singletonList(testSuiteResultReport);
+    }
+
     public static ProjectResultReport makePendingReport(String executionID) {
         ProjectResultReport startReport = new ProjectResultReport();
         startReport.setExecutionID(executionID);
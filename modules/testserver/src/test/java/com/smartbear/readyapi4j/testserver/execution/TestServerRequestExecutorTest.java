@@ -1,24 +1,48 @@
 package com.smartbear.readyapi4j.testserver.execution;
 
+import com.smartbear.readyapi.client.model.HarContent;
+import com.smartbear.readyapi.client.model.HarEntry;
+import com.smartbear.readyapi.client.model.HarLog;
+import com.smartbear.readyapi.client.model.HarLogRoot;
+import com.smartbear.readyapi.client.model.HarResponse;
 import com.smartbear.readyapi.client.model.ProjectResultReport;
 import com.smartbear.readyapi.client.model.ProjectResultReports;
 import com.smartbear.readyapi.client.model.TestCase;
+import com.smartbear.readyapi.client.model.TestStepResultReport;
 import com.smartbear.readyapi4j.ExecutionListener;
 import com.smartbear.readyapi4j.TestRecipe;
 import com.smartbear.readyapi4j.TestRecipeBuilder;
 import com.smartbear.readyapi4j.execution.Execution;
+import com.smartbear.readyapi4j.execution.RecipeBatchResult;
+import com.smartbear.readyapi4j.execution.RecipeExecutionException;
 import com.smartbear.readyapi4j.extractor.ExtractorData;
+import com.smartbear.readyapi4j.extractor.Extractors;
+import com.smartbear.readyapi4j.result.HarCapturePolicy;
+import com.smartbear.readyapi4j.result.TestStepResult;
 import com.smartbear.readyapi4j.teststeps.TestSteps;
 import io.swagger.client.auth.HttpBasicAuth;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentMatcher;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.argThat;
 import static org.mockito.Matchers.eq;
@@ -87,6 +111,60 @@ public class TestServerRequestExecutorTest extends ProjectExecutionTestBase {
         }));
     }
 
+    @Test
+    public void notifiesListenersOfTestStepsAddedBetweenStatusPolls() throws Exception {
+        String executionID = "the_id";
+        ProjectResultReport startReport = ExecutionTestHelper.makeRunningReport(executionID);
+        ProjectResultReport runningReport = ExecutionTestHelper.makeRunningReport(executionID);
+        runningReport.setTestSuiteResultReports(ExecutionTestHelper.makeTestSuiteResultReports("first"));
+        ProjectResultReport endReport = ExecutionTestHelper.makeFinishedReport(executionID);
+        endReport.setTestSuiteResultReports(ExecutionTestHelper.makeTestSuiteResultReports("first", "second"));
+        when(apiWrapper.postTestRecipe(eq(recipeToSubmit), eq(true), any(HttpBasicAuth.class))).thenReturn(startReport);
+        when(apiWrapper.getExecutionStatus(eq(executionID), any(HttpBasicAuth.class))).thenReturn(runningReport, endReport);
+        List<String> finishedSteps = new CopyOnWriteArrayList<>();
+        recipeExecutor.addExecutionListener(new ExecutionListener() {
+            @Override
+            public void testStepFinished(Execution execution, TestStepResult testStepResult) {
+                finishedSteps.add(testStepResult.getTestStepName());
+            }
+        });
+
+        recipeExecutor.submitRecipeAsync(recipeToSubmit).get(10, TimeUnit.SECONDS);
+        assertThat(finishedSteps, is(Arrays.asList("first", "second")));
+    }
+
+    @Test
+    public void completesFutureWhenAsynchronousExecutionFinishes() throws Exception {
+        String executionID = "the_id";
+        ProjectResultReport startReport = ExecutionTestHelper.makeRunningReport(executionID);
+        ProjectResultReport endReport = ExecutionTestHelper.makeFinishedReport(executionID);
+        when(apiWrapper.postTestRecipe(eq(recipeToSubmit), eq(true), any(HttpBasicAuth.class))).thenReturn(startReport);
+        when(apiWrapper.getExecutionStatus(eq(executionID), any(HttpBasicAuth.class))).thenReturn(endReport);
+
+        Execution execution = recipeExecutor.submitRecipeAsync(recipeToSubmit).get(5, TimeUnit.SECONDS);
+        assertThat(execution.getCurrentStatus(), is(ProjectResultReport.StatusEnum.FINISHED));
+        assertThat(execution.getCurrentReport(), is(endReport));
+    }
+
+    @Test
+    public void notifiesListenersWhenStatusPollingGivesUp() throws Exception {
+        ProjectResultReport runningReport = ExecutionTestHelper.makeRunningReport("execution_ID");
+        when(apiWrapper.postTestRecipe(eq(recipeToSubmit), eq(true), any(HttpBasicAuth.class))).thenReturn(runningReport);
+        when(apiWrapper.getExecutionStatus(eq("execution_ID"), any(HttpBasicAuth.class)))
+                .thenThrow(new ApiException(503, "Service unavailable"));
+        testServerClient.withStatusPollInterval(10, 10, TimeUnit.MILLISECONDS);
+        ExecutionListener executionListener = mock(ExecutionListener.class);
+        recipeExecutor.addExecutionListener(executionListener);
+
+        try {
+            recipeExecutor.submitRecipeAsync(recipeToSubmit).get(10, TimeUnit.SECONDS);
+            fail("Expected status polling to fail");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(RecipeExecutionException.class)));
+            verify(executionListener).errorOccurred((Exception) e.getCause());
+        }
+    }
+
     @Test
     public void executesRecipeSynchronously() throws Exception {
         ProjectResultReport report = ExecutionTestHelper.makeFinishedReport("execution_ID");
@@ -113,6 +191,146 @@ public class TestServerRequestExecutorTest extends ProjectExecutionTestBase {
 
     }
 
+    @Test
+    public void runsExtractorsOfEachExecutionOnItsOwnReport() throws Exception {
+        List<String> extractedValues = new CopyOnWriteArrayList<>();
+        for (String executionID : Arrays.asList("first_ID", "second_ID")) {
+            ExtractorData extractorData = new ExtractorData();
+            String extractorId = extractorData.addExtractorOperator("value", value -> extractedValues.add(value));
+            TestRecipe recipe = new TestRecipe(new TestCase(), extractorData);
+            ProjectResultReport report = ExecutionTestHelper.makeFinishedReport(executionID);
+            report.setTestSuiteResultReports(ExecutionTestHelper.makeTestSuiteResultReports("step"));
+            Map<String, String> properties = new HashMap<>();
+            properties.put(ExtractorData.EXTRACTOR_DATA_KEY, extractorData.getExtractorDataId());
+            properties.put(extractorId, executionID);
+            report.getTestSuiteResultReports().get(0).getTestCaseResultReports().get(0).setProperties(properties);
+            when(apiWrapper.postTestRecipe(eq(recipe), eq(false), any(HttpBasicAuth.class))).thenReturn(report);
+
+            recipeExecutor.executeRecipe(recipe);
+            assertThat(properties.isEmpty(), is(true));
+        }
+
+        assertThat(extractedValues, is(Arrays.asList("first_ID", "second_ID")));
+    }
+
+    @Test
+    public void runsClientSideExtractorsOnCapturedResponses() throws Exception {
+        List<String> extractedValues = new CopyOnWriteArrayList<>();
+        TestRecipe recipe = newRecipeWithClientSideExtractor(extractedValues);
+        stubExecutionWithResponse(recipe, "{ \"items\": [ { \"name\": \"first\" } ] }");
+
+        TestServerExecution execution = recipeExecutor.executeRecipe(recipe);
+
+        assertThat(extractedValues, is(Collections.singletonList("first")));
+        assertThat(execution.getCompletion().isCompletedExceptionally(), is(false));
+    }
+
+    @Test
+    public void failsExecutionWhenResponseForClientSideExtractorIsTruncated() throws Exception {
+        List<String> extractedValues = new CopyOnWriteArrayList<>();
+        TestRecipe recipe = newRecipeWithClientSideExtractor(extractedValues);
+        stubExecutionWithResponse(recipe, "{ \"items\": [ { \"name\": \"first\" } ] }");
+        testServerClient.withHarCapturePolicy(HarCapturePolicy.truncated(5));
+        ExecutionListener executionListener = mock(ExecutionListener.class);
+        recipeExecutor.addExecutionListener(executionListener);
+
+        try {
+            recipeExecutor.executeRecipe(recipe);
+            fail("Expected extraction from truncated response to fail");
+        } catch (RecipeExecutionException e) {
+            verify(executionListener).errorOccurred(e);
+        }
+        assertThat(extractedValues.isEmpty(), is(true));
+    }
+
+    @Test
+    public void runsClientSideExtractorsOfEachStepOnTheExtractionExecutor() throws Exception {
+        List<String> extractedValues = new CopyOnWriteArrayList<>();
+        TestRecipe recipe = new TestRecipeBuilder()
+                .addStep(TestSteps.GET("http://localhost:8080")
+                        .named("first")
+                        .withExtractors(Extractors.fromResponse("$.name", extractedValues::add)))
+                .addStep(TestSteps.GET("http://localhost:8080")
+                        .named("second")
+                        .withExtractors(Extractors.fromResponse("$.name", extractedValues::add)))
+                .withClientSideExtraction()
+                .buildTestRecipe();
+        ProjectResultReport report = ExecutionTestHelper.makeFinishedReport("execution_ID");
+        report.setTestSuiteResultReports(ExecutionTestHelper.makeTestSuiteResultReports("first", "second"));
+        List<TestStepResultReport> stepReports = report.getTestSuiteResultReports().get(0)
+                .getTestCaseResultReports().get(0).getTestStepResultReports();
+        for (TestStepResultReport stepReport : stepReports) {
+            stepReport.setTransactionId(stepReport.getTestStepName() + "_transaction");
+            HarEntry harEntry = new HarEntry().response(new HarResponse().content(
+                    new HarContent().text("{ \"name\": \"" + stepReport.getTestStepName() + "\" }")));
+            when(apiWrapper.getTransactionLog(eq("execution_ID"), eq(stepReport.getTestStepName() + "_transaction"),
+                    any(HttpBasicAuth.class)))
+                    .thenReturn(new HarLogRoot().log(new HarLog().entries(Collections.singletonList(harEntry))));
+        }
+        when(apiWrapper.postTestRecipe(eq(recipe), eq(false), any(HttpBasicAuth.class))).thenReturn(report);
+        AtomicInteger offloadedSteps = new AtomicInteger();
+        testServerClient.withExtractionExecutor(command -> {
+            offloadedSteps.incrementAndGet();
+            command.run();
+        });
+
+        recipeExecutor.executeRecipe(recipe);
+
+        assertThat(new HashSet<>(extractedValues), is(new HashSet<>(Arrays.asList("first", "second"))));
+        assertThat(offloadedSteps.get(), is(1));
+    }
+
+    @Test(expected = RecipeExecutionException.class)
+    public void failsExecutionWhenResponseForClientSideExtractorIsNotCaptured() throws Exception {
+        TestRecipe recipe = newRecipeWithClientSideExtractor(new CopyOnWriteArrayList<>());
+        stubExecutionWithResponse(recipe, "{}");
+        testServerClient.withHarCapturePolicy(HarCapturePolicy.headersOnly());
+
+        recipeExecutor.executeRecipe(recipe);
+    }
+
+    @Test
+    public void executesRecipesInParallelAndKeepsSubmissionOrder() throws Exception {
+        List<TestRecipe> recipes = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            TestRecipe recipe = new TestRecipe(new TestCase());
+            ProjectResultReport report = ExecutionTestHelper.makeFinishedReport("execution_" + i);
+            when(apiWrapper.postTestRecipe(eq(recipe), eq(false), any(HttpBasicAuth.class))).thenReturn(report);
+            recipes.add(recipe);
+        }
+
+        List<Execution> executions = recipeExecutor.executeRecipes(recipes, 4).getExecutions();
+        assertThat(executions.size(), is(10));
+        for (int i = 0; i < 10; i++) {
+            assertThat(executions.get(i).getId(), is("execution_" + i));
+        }
+    }
+
+    @Test
+    public void keepsBoundedStatusHistory() throws Exception {
+        TestServerExecution execution = new TestServerExecution(apiWrapper, new HttpBasicAuth(),
+                ExecutionTestHelper.makeRunningReport("the_id"));
+        for (int i = 0; i < 10; i++) {
+            execution.addResultReport(ExecutionTestHelper.makeRunningReport("the_id"));
+        }
+        ProjectResultReport endReport = ExecutionTestHelper.makeFinishedReport("the_id");
+        execution.addResultReport(endReport);
+        assertThat(execution.getStatusHistory(), is(Collections.singletonList(endReport)));
+
+        execution.withStatusHistorySize(3);
+        for (int i = 0; i < 10; i++) {
+            execution.addResultReport(ExecutionTestHelper.makeRunningReport("the_id"));
+        }
+        execution.addResultReport(endReport);
+        assertThat(execution.getStatusHistory().size(), is(3));
+        assertThat(execution.getCurrentReport(), is(endReport));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsEmptyStatusHistory() throws Exception {
+        testServerClient.withStatusHistorySize(0);
+    }
+
     @Test
     public void getsExecutions() throws Exception {
         ProjectResultReports projectStatusReports = ExecutionTestHelper.makeProjectResultReports();
@@ -121,6 +339,31 @@ public class TestServerRequestExecutorTest extends ProjectExecutionTestBase {
         assertThat(executions.size(), is(2));
     }
 
+    @Test
+    public void keepsExecutingBatchWhenRecipeFails() throws Exception {
+        List<TestRecipe> recipes = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            TestRecipe recipe = new TestRecipe(new TestCase());
+            if (i == 1) {
+                when(apiWrapper.postTestRecipe(eq(recipe), eq(false), any(HttpBasicAuth.class)))
+                        .thenThrow(new ApiException(500, "Internal server error"));
+            } else {
+                ProjectResultReport report = ExecutionTestHelper.makeFinishedReport("execution_" + i);
+                when(apiWrapper.postTestRecipe(eq(recipe), eq(false), any(HttpBasicAuth.class))).thenReturn(report);
+            }
+            recipes.add(recipe);
+        }
+
+        RecipeBatchResult result = recipeExecutor.executeRecipes(recipes, 2);
+
+        assertThat(result.hasFailures(), is(true));
+        assertThat(result.getExecutions().size(), is(4));
+        assertThat(result.getExecution(1), is(nullValue()));
+        assertThat(result.getFailure(1), is(instanceOf(ApiException.class)));
+        assertThat(result.getFailedRecipes(), is(Collections.singletonList(recipes.get(1))));
+        assertThat(result.getExecution(4).getId(), is("execution_4"));
+    }
+
     @Test
     public void cancelsExecutions() throws Exception {
         ProjectResultReport runningReport = ExecutionTestHelper.makeRunningReport("execution_ID");
@@ -175,6 +418,28 @@ public class TestServerRequestExecutorTest extends ProjectExecutionTestBase {
         }
     }
 
+    private TestRecipe newRecipeWithClientSideExtractor(List<String> extractedValues) {
+        return new TestRecipeBuilder()
+                .addStep(TestSteps.GET("http://localhost:8080")
+                        .named("step")
+                        .withExtractors(Extractors.fromResponse("$.items[0].name", extractedValues::add)))
+                .withClientSideExtraction()
+                .buildTestRecipe();
+    }
+
+    private void stubExecutionWithResponse(TestRecipe recipe, String responseContent) {
+        ProjectResultReport report = ExecutionTestHelper.makeFinishedReport("execution_ID");
+        report.setTestSuiteResultReports(ExecutionTestHelper.makeTestSuiteResultReports("step"));
+        report.getTestSuiteResultReports().get(0).getTestCaseResultReports().get(0).getTestStepResultReports().get(0)
+                .setTransactionId("transaction_ID");
+        when(apiWrapper.postTestRecipe(eq(recipe), eq(false), any(HttpBasicAuth.class))).thenReturn(report);
+
+        HarEntry harEntry = new HarEntry().response(new HarResponse().content(new HarContent().text(responseContent)));
+        HarLogRoot harLog = new HarLogRoot().log(new HarLog().entries(Collections.singletonList(harEntry)));
+        when(apiWrapper.getTransactionLog(eq("execution_ID"), eq("transaction_ID"), any(HttpBasicAuth.class)))
+                .thenReturn(harLog);
+    }
+
     private ExecutionListener createExecutionListenerWithExpectedErrorMessage(final String expectedErrorMessage) {
         return new ExecutionListener() {
             @Override